@@ -0,0 +1,34 @@
+package net.piofox4.foxfurnace.gametest;
+
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.TestContext;
+import net.piofox4.foxfurnace.util.FurnaceSpeedManager;
+import net.piofox4.foxfurnace.util.FurnaceTierSettings;
+
+import static net.piofox4.foxfurnace.util.FurnaceSpeedManager.PROGRESS_SCALE;
+
+/**
+ * Every cook time reduction the config allows turns the vanilla 200 tick
+ * recipe into one of exactly {@code 200 - r} ticks, both in the progress the
+ * furnace accumulates and in the total the screen shows.
+ */
+public class FurnaceCookStepTest implements FabricGameTest {
+
+    private static final int DEFAULT_COOK_TIME = 200;
+    private static final int MAX_REDUCTION = 199;
+
+    @GameTest(templateName = EMPTY_STRUCTURE)
+    public void reductionsFinishOnTime(TestContext context) {
+        long cookGoal = DEFAULT_COOK_TIME * PROGRESS_SCALE;
+        for (int reduction = 0; reduction <= MAX_REDUCTION; reduction++) {
+            long cookStep = FurnaceTierSettings.cookStepFromReduction(reduction);
+            int expected = DEFAULT_COOK_TIME - reduction;
+            context.assertTrue((expected - 1) * cookStep < cookGoal && expected * cookStep >= cookGoal,
+                    "Reduction " + reduction + " does not finish in " + expected + " ticks");
+            int shown = FurnaceSpeedManager.getAdjustedCookTime(DEFAULT_COOK_TIME, cookStep);
+            context.assertTrue(shown == expected, "Reduction " + reduction + " shows " + shown + " ticks, expected " + expected);
+        }
+        context.complete();
+    }
+}
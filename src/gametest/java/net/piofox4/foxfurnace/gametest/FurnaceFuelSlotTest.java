@@ -0,0 +1,47 @@
+package net.piofox4.foxfurnace.gametest;
+
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.HopperBlock;
+import net.minecraft.block.entity.HopperBlockEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.registry.Registries;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.piofox4.foxfurnace.FoxFurnace;
+import net.piofox4.foxfurnace.block.entity.FoxFurnaceBlockEntity;
+import net.piofox4.foxfurnace.util.FurnaceTier;
+
+/**
+ * The fuel slot takes one empty bucket at a time, as in vanilla: a wet
+ * sponge fills the bucket in place, so a stack of buckets would be lost.
+ */
+public class FurnaceFuelSlotTest implements FabricGameTest {
+
+    private static final BlockPos FURNACE = new BlockPos(1, 1, 1);
+    private static final int FUEL_SLOT = 1;
+
+    @GameTest(templateName = EMPTY_STRUCTURE)
+    public void hopperInsertsOneBucket(TestContext context) {
+        Block furnace = Registries.BLOCK.get(Identifier.of(FoxFurnace.MOD_ID, FurnaceTier.COPPER.getName() + "_furnace"));
+        context.setBlockState(FURNACE, furnace);
+        context.setBlockState(FURNACE.east(), Blocks.HOPPER.getDefaultState().with(HopperBlock.FACING, Direction.WEST));
+        HopperBlockEntity hopper = context.getBlockEntity(FURNACE.east());
+        hopper.setStack(0, new ItemStack(Items.BUCKET, 2));
+
+        context.runAtTick(40, () -> {
+            FoxFurnaceBlockEntity entity = context.getBlockEntity(FURNACE);
+            ItemStack fuel = entity.getStack(FUEL_SLOT);
+            context.assertTrue(fuel.isOf(Items.BUCKET) && fuel.getCount() == 1,
+                    "Fuel slot holds " + fuel + ", expected a single bucket");
+            context.assertTrue(hopper.getStack(0).isOf(Items.BUCKET) && hopper.getStack(0).getCount() == 1,
+                    "Hopper holds " + hopper.getStack(0) + ", expected the second bucket");
+            context.complete();
+        });
+    }
+}
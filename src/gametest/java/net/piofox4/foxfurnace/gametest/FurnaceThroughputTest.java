@@ -0,0 +1,219 @@
+package net.piofox4.foxfurnace.gametest;
+
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.HopperBlock;
+import net.minecraft.block.entity.HopperBlockEntity;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.recipe.AbstractCookingRecipe;
+import net.minecraft.recipe.RecipeEntry;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.recipe.input.SingleStackRecipeInput;
+import net.minecraft.registry.Registries;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.Direction;
+import net.piofox4.foxfurnace.FoxFurnace;
+import net.piofox4.foxfurnace.block.entity.FoxFurnaceBlockEntity;
+import net.piofox4.foxfurnace.util.FurnaceSpeedManager;
+import net.piofox4.foxfurnace.util.FurnaceStats;
+import net.piofox4.foxfurnace.util.FurnaceTier;
+import net.piofox4.foxfurnace.util.FurnaceTierSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Throughput suite: places a grid of furnaces of one tier, each fed input
+ * from a hopper above and one coal from a hopper at its side, with a hopper
+ * below collecting the output. After the time the furnaces need for their
+ * input, every item has to be smelted, and the time spent in furnace ticks
+ * per server tick must stay within the budget for the grid size.
+ * <p>
+ * The furnace time comes from the sampled tick timer of {@link FurnaceStats},
+ * not the server's tick time, which is dominated by the hoppers feeding the
+ * grid. The budget is {@value #DEFAULT_MSPT_PER_1000} ms per 1000 furnaces
+ * (at least {@value #MIN_MSPT} ms). Override it with
+ * {@code -Dfoxfurnace.gametest.msptPer1000=<ms>} for slower build boxes.
+ */
+public class FurnaceThroughputTest implements FabricGameTest {
+
+    private static final int ITEMS_PER_FURNACE = 4;
+    /** Hopper transfer cooldown: the input never arrives faster than this. */
+    private static final int HOPPER_COOLDOWN = 8;
+    /** Slack for the first hopper transfers and the last output extraction. */
+    private static final int MARGIN_TICKS = 40;
+    private static final double DEFAULT_MSPT_PER_1000 = 2.0;
+    private static final double MIN_MSPT = 1.0;
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "foxfurnace_copper", tickLimit = 1200)
+    public void copperGrid(TestContext context) {
+        runGrid(context, FurnaceTier.COPPER, 16, 16);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "foxfurnace_iron", tickLimit = 1200)
+    public void ironGrid(TestContext context) {
+        runGrid(context, FurnaceTier.IRON, 16, 16);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "foxfurnace_gold", tickLimit = 1200)
+    public void goldGrid(TestContext context) {
+        runGrid(context, FurnaceTier.GOLD, 16, 16);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "foxfurnace_emerald", tickLimit = 1200)
+    public void emeraldGrid(TestContext context) {
+        runGrid(context, FurnaceTier.EMERALD, 16, 16);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "foxfurnace_diamond", tickLimit = 1200)
+    public void diamondGrid(TestContext context) {
+        runGrid(context, FurnaceTier.DIAMOND, 16, 16);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "foxfurnace_netherite", tickLimit = 1200)
+    public void netheriteGrid(TestContext context) {
+        runGrid(context, FurnaceTier.NETHERITE, 16, 16);
+    }
+
+    @GameTest(templateName = EMPTY_STRUCTURE, batchId = "foxfurnace_netherite_large", tickLimit = 1200)
+    public void netheriteLargeGrid(TestContext context) {
+        runGrid(context, FurnaceTier.NETHERITE, 100, 100);
+    }
+
+    private void runGrid(TestContext context, FurnaceTier tier, int columns, int rows) {
+        ServerWorld world = context.getWorld();
+        FurnaceTierSettings settings = FurnaceSpeedManager.getSettings();
+        ItemStack input = getInput(settings.getRecipeType(tier));
+        RecipeEntry<? extends AbstractCookingRecipe> recipe = world.getRecipeManager()
+                .getFirstMatch(settings.getRecipeType(tier), new SingleStackRecipeInput(input), world)
+                .orElseThrow();
+        ItemStack result = recipe.value().getResult(world.getRegistryManager());
+        int ticksPerItem = Math.max(HOPPER_COOLDOWN,
+                FurnaceSpeedManager.getAdjustedCookTime(recipe.value().getCookingTime(), settings.getCookStep(tier)));
+        int runTicks = ITEMS_PER_FURNACE * ticksPerItem + MARGIN_TICKS;
+
+        BlockPos origin = context.getAbsolutePos(new BlockPos(1, 1, 1));
+        List<BlockPos> furnaces = placeGrid(world, origin, tier, columns, rows, input);
+        double budget = Math.max(MIN_MSPT, furnaces.size() / 1000.0 * getMsptPer1000());
+        // Batches run one after another, so the counters only see this grid.
+        FurnaceStats.reset();
+
+        context.runAtTick(runTicks, () -> {
+            double mspt = getFurnaceMillisPerTick(tier);
+            int expected = furnaces.size() * ITEMS_PER_FURNACE * result.getCount();
+            int smelted = countOutput(world, furnaces, result.getItem());
+            clearGrid(world, origin, columns, rows);
+            context.assertTrue(smelted == expected, tier.getName() + " grid smelted " + smelted + " items, expected " + expected);
+            context.assertTrue(mspt <= budget, String.format("%s grid of %d furnaces spent %.3f ms per tick in furnace ticks, budget %.2f ms",
+                    tier.getName(), furnaces.size(), mspt, budget));
+            context.complete();
+        });
+    }
+
+    private static ItemStack getInput(RecipeType<? extends AbstractCookingRecipe> recipeType) {
+        return recipeType == RecipeType.SMOKING ? new ItemStack(Items.BEEF) : new ItemStack(Items.RAW_IRON);
+    }
+
+    /**
+     * Mean furnace tick time times the furnace ticks run per server tick,
+     * since the last reset.
+     */
+    private static double getFurnaceMillisPerTick(FurnaceTier tier) {
+        long serverTicks = FurnaceStats.getServerTicks();
+        if (serverTicks == 0) return 0.0;
+        return (double) FurnaceStats.TICK.getMeanNanos() * FurnaceStats.getTicks(tier.getId()) / serverTicks / 1.0e6;
+    }
+
+    private static double getMsptPer1000() {
+        String value = System.getProperty("foxfurnace.gametest.msptPer1000");
+        return value == null ? DEFAULT_MSPT_PER_1000 : Double.parseDouble(value);
+    }
+
+    /**
+     * Each cell is two blocks wide: the furnace with hoppers above and below,
+     * and the fuel hopper east of it. Chunks under the grid are force-loaded
+     * so every furnace ticks, wherever the test was placed.
+     */
+    private static List<BlockPos> placeGrid(ServerWorld world, BlockPos origin, FurnaceTier tier, int columns, int rows, ItemStack input) {
+        forceChunks(world, origin, columns, rows, true);
+        Block furnace = Registries.BLOCK.get(Identifier.of(FoxFurnace.MOD_ID, tier.getName() + "_furnace"));
+        BlockState hopperDown = Blocks.HOPPER.getDefaultState().with(HopperBlock.FACING, Direction.DOWN);
+        BlockState hopperWest = Blocks.HOPPER.getDefaultState().with(HopperBlock.FACING, Direction.WEST);
+
+        List<BlockPos> furnaces = new ArrayList<>(columns * rows);
+        for (int column = 0; column < columns; column++) {
+            for (int row = 0; row < rows; row++) {
+                BlockPos pos = origin.add(column * 2, 1, row);
+                world.setBlockState(pos.down(), hopperDown, Block.NOTIFY_LISTENERS);
+                world.setBlockState(pos, furnace.getDefaultState(), Block.NOTIFY_LISTENERS);
+                world.setBlockState(pos.up(), hopperDown, Block.NOTIFY_LISTENERS);
+                world.setBlockState(pos.east(), hopperWest, Block.NOTIFY_LISTENERS);
+                ((HopperBlockEntity) world.getBlockEntity(pos.up())).setStack(0, input.copyWithCount(ITEMS_PER_FURNACE));
+                ((HopperBlockEntity) world.getBlockEntity(pos.east())).setStack(0, new ItemStack(Items.COAL));
+                furnaces.add(pos);
+            }
+        }
+        return furnaces;
+    }
+
+    private static int countOutput(ServerWorld world, List<BlockPos> furnaces, Item result) {
+        int count = 0;
+        for (BlockPos pos : furnaces) {
+            count += countItem((Inventory) world.getBlockEntity(pos.down()), result);
+            FoxFurnaceBlockEntity furnace = (FoxFurnaceBlockEntity) world.getBlockEntity(pos);
+            count += countItem(furnace, result);
+            for (ItemStack buffered : furnace.getOutputBuffer()) {
+                if (buffered.isOf(result)) count += buffered.getCount();
+            }
+        }
+        return count;
+    }
+
+    private static int countItem(Inventory inventory, Item item) {
+        int count = 0;
+        for (int slot = 0; slot < inventory.size(); slot++) {
+            ItemStack stack = inventory.getStack(slot);
+            if (stack.isOf(item)) count += stack.getCount();
+        }
+        return count;
+    }
+
+    /**
+     * The grid reaches past the test structure, so the test framework does
+     * not clean it up. Inventories are emptied first so nothing drops.
+     */
+    private static void clearGrid(ServerWorld world, BlockPos origin, int columns, int rows) {
+        for (int column = 0; column < columns; column++) {
+            for (int row = 0; row < rows; row++) {
+                BlockPos pos = origin.add(column * 2, 1, row);
+                for (BlockPos part : new BlockPos[]{pos.down(), pos, pos.up(), pos.east()}) {
+                    if (world.getBlockEntity(part) instanceof Inventory inventory) {
+                        inventory.clear();
+                    }
+                    world.setBlockState(part, Blocks.AIR.getDefaultState(), Block.NOTIFY_LISTENERS);
+                }
+            }
+        }
+        forceChunks(world, origin, columns, rows, false);
+    }
+
+    private static void forceChunks(ServerWorld world, BlockPos origin, int columns, int rows, boolean forced) {
+        ChunkPos min = new ChunkPos(origin);
+        ChunkPos max = new ChunkPos(origin.add(columns * 2, 0, rows));
+        for (int x = min.x; x <= max.x; x++) {
+            for (int z = min.z; z <= max.z; z++) {
+                world.setChunkForced(x, z, forced);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package net.piofox4.foxfurnace.benchmark;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.piofox4.foxfurnace.config.ModConfig;
+import net.piofox4.foxfurnace.util.FuelTable;
+import net.piofox4.foxfurnace.util.FurnaceSpeedManager;
+import net.piofox4.foxfurnace.util.FurnaceTier;
+import net.piofox4.foxfurnace.util.FurnaceTierSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.piofox4.foxfurnace.util.FurnaceSpeedManager.PROGRESS_SCALE;
+
+/**
+ * The per-tick speed math: what the getCookTime hook, fuel lighting and the
+ * property sync do for every tier furnace on every tick. Cycles through the
+ * tiers so the lookups cannot be constant-folded.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FurnaceSpeedBenchmark {
+
+    private FurnaceTierSettings settings;
+    private FuelTable fuelTable;
+    private ItemStack fuel;
+    private int next;
+
+    @Setup
+    public void setup() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        settings = FurnaceSpeedManager.publish(new ModConfig());
+        fuelTable = FuelTable.get();
+        fuel = new ItemStack(Items.COAL);
+    }
+
+    private FurnaceTier nextTier() {
+        FurnaceTier tier = FurnaceTier.VALUES[next];
+        next = next + 1 == FurnaceTier.VALUES.length ? 0 : next + 1;
+        return tier;
+    }
+
+    /** Body of {@link FurnaceSpeedManager#getFurnaceSpeedReduction} once the block entity is known. */
+    @Benchmark
+    public int cookTimeReduction() {
+        return settings.getCookTimeReduction(nextTier());
+    }
+
+    @Benchmark
+    public int adjustedCookTime() {
+        return FurnaceSpeedManager.getAdjustedCookTime(200, settings.getCookStep(nextTier()));
+    }
+
+    /** Replaces the old adjusted fuel time: burn energy of one coal at the tier's fuel scale. */
+    @Benchmark
+    public long burnEnergy() {
+        return fuelTable.getBurnEnergy(settings, nextTier(), fuel);
+    }
+
+    /**
+     * Rescaling the fixed-point burn and progress back to vanilla ticks, as
+     * the property sync does after every tick.
+     */
+    @Benchmark
+    public long syncRescale() {
+        long cookStep = settings.getCookStep(nextTier());
+        long burnTicks = Math.ceilDiv(1_234L * PROGRESS_SCALE, cookStep);
+        long fuelTicks = Math.ceilDiv(1_600L * PROGRESS_SCALE, cookStep);
+        long cookTime = 87L * PROGRESS_SCALE / cookStep;
+        long cookTimeTotal = Math.max(1L, Math.ceilDiv(200L * PROGRESS_SCALE, cookStep));
+        return burnTicks + fuelTicks + cookTime + cookTimeTotal;
+    }
+}
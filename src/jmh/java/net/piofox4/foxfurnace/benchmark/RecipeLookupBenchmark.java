@@ -0,0 +1,102 @@
+package net.piofox4.foxfurnace.benchmark;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.recipe.Ingredient;
+import net.minecraft.recipe.RecipeEntry;
+import net.minecraft.recipe.RecipeManager;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.recipe.SmeltingRecipe;
+import net.minecraft.recipe.book.CookingRecipeCategory;
+import net.minecraft.recipe.input.SingleStackRecipeInput;
+import net.minecraft.registry.BuiltinRegistries;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+import net.piofox4.foxfurnace.FoxFurnace;
+import net.piofox4.foxfurnace.config.ModConfig;
+import net.piofox4.foxfurnace.util.FurnaceSpeedManager;
+import net.piofox4.foxfurnace.util.FurnaceTier;
+import net.piofox4.foxfurnace.util.SmeltIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding a furnace's recipe and tier cook time as the number of smelting
+ * recipes grows: one {@link SmeltIndex} lookup against the recipe manager's
+ * scan over every recipe of the type. Each recipe smelts a different item;
+ * the inputs cycle through all of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeLookupBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int recipeCount;
+
+    private RecipeManager recipeManager;
+    private SmeltIndex index;
+    private ItemStack[] inputs;
+    private int next;
+
+    @Setup
+    public void setup() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        FurnaceSpeedManager.publish(new ModConfig());
+
+        List<RecipeEntry<?>> recipes = new ArrayList<>(recipeCount);
+        List<ItemStack> stacks = new ArrayList<>(recipeCount);
+        for (Item item : Registries.ITEM) {
+            if (stacks.size() == recipeCount) break;
+            if (item == Items.AIR) continue;
+            SmeltingRecipe recipe = new SmeltingRecipe("", CookingRecipeCategory.MISC, Ingredient.ofItems(item),
+                    new ItemStack(Items.IRON_INGOT), 0.1F, 200);
+            recipes.add(new RecipeEntry<>(Identifier.of(FoxFurnace.MOD_ID, "bench_" + stacks.size()), recipe));
+            stacks.add(new ItemStack(item));
+        }
+        inputs = stacks.toArray(ItemStack[]::new);
+
+        recipeManager = new RecipeManager(BuiltinRegistries.createWrapperLookup());
+        recipeManager.setRecipes(recipes);
+        SmeltIndex.rebuild(recipeManager);
+        index = SmeltIndex.get();
+    }
+
+    private ItemStack nextInput() {
+        ItemStack input = inputs[next];
+        next = next + 1 == inputs.length ? 0 : next + 1;
+        return input;
+    }
+
+    /** Recipe and cook time at the netherite tier, as the furnace tick reads them. */
+    @Benchmark
+    public int smeltIndex() {
+        return index.find(RecipeType.SMELTING, nextInput()).getTierCookTime(FurnaceTier.NETHERITE);
+    }
+
+    /** The unindexed fallback. Cooking recipes ignore the world, so none is needed. */
+    @Benchmark
+    public Object recipeManager() {
+        return recipeManager.getFirstMatch(RecipeType.SMELTING, new SingleStackRecipeInput(nextInput()), null).orElse(null);
+    }
+}
@@ -0,0 +1,77 @@
+package net.piofox4.foxfurnace.benchmark;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.piofox4.foxfurnace.config.ModConfig;
+import net.piofox4.foxfurnace.util.FurnaceSpeedManager;
+import net.piofox4.foxfurnace.util.FurnaceTier;
+import net.piofox4.foxfurnace.util.FurnaceTierSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The tier lookups a furnace makes: the settings it already holds, the
+ * published snapshot read through {@link FurnaceSpeedManager}, and resolving
+ * a tier from its name, as datapack tier files do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TierLookupBenchmark {
+
+    private FurnaceTierSettings settings;
+    private String[] names;
+    private int next;
+
+    @Setup
+    public void setup() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        settings = FurnaceSpeedManager.publish(new ModConfig());
+        names = new String[FurnaceTier.VALUES.length];
+        for (FurnaceTier tier : FurnaceTier.VALUES) {
+            names[tier.getId()] = tier.getName();
+        }
+    }
+
+    private int nextId() {
+        int id = next;
+        next = next + 1 == FurnaceTier.VALUES.length ? 0 : next + 1;
+        return id;
+    }
+
+    /** What a ticking furnace does: its own snapshot, indexed by tier id. */
+    @Benchmark
+    public long heldSettings() {
+        return settings.getCookStep(FurnaceTier.VALUES[nextId()]);
+    }
+
+    /** The volatile snapshot read each tick uses to spot new settings. */
+    @Benchmark
+    public long publishedSettings() {
+        return FurnaceSpeedManager.getSettings().getCookStep(FurnaceTier.VALUES[nextId()]);
+    }
+
+    @Benchmark
+    public Object recipeType() {
+        return settings.getRecipeType(FurnaceTier.VALUES[nextId()]);
+    }
+
+    @Benchmark
+    public FurnaceTier byName() {
+        return FurnaceTier.byName(names[nextId()]);
+    }
+}
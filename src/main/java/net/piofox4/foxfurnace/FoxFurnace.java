@@ -5,14 +5,25 @@ import me.shedaniel.autoconfig.ConfigHolder;
 import me.shedaniel.autoconfig.serializer.GsonConfigSerializer;
 import net.fabricmc.api.ModInitializer;
 
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.minecraft.resource.ResourceType;
 import net.minecraft.util.ActionResult;
 import net.piofox4.foxfurnace.block.ModBlocks;
+import net.piofox4.foxfurnace.command.ModCommands;
 import net.piofox4.foxfurnace.config.ModConfig;
 import net.piofox4.foxfurnace.item.ModItemGroups;
 import net.piofox4.foxfurnace.item.ModItems;
-import net.piofox4.foxfurnace.util.FurnaceSpeedManager;
+import net.piofox4.foxfurnace.screen.ModScreenHandlers;
+import net.piofox4.foxfurnace.util.FuelTable;
+import net.piofox4.foxfurnace.util.FurnaceHotspots;
+import net.piofox4.foxfurnace.util.FurnaceStats;
+import net.piofox4.foxfurnace.util.FurnaceTierLoader;
 import net.piofox4.foxfurnace.util.ModLootTableModifiers;
 import net.piofox4.foxfurnace.util.Ref;
+import net.piofox4.foxfurnace.util.SmeltIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,13 +38,26 @@ public class FoxFurnace implements ModInitializer {
 		ModItemGroups.registerItemGroups();
 		ModLootTableModifiers.modifyLootTables();
 		ModItems.registerModItems();
+		ModScreenHandlers.registerScreenHandlers();
+		ModCommands.registerCommands();
 		ConfigHolder<ModConfig> configHolder = AutoConfig.register(ModConfig.class, GsonConfigSerializer::new);
 		configHolder.getConfig();
 		Ref.getSettings();
 		configHolder.registerSaveListener((holder, config) -> {
 			Ref.getSettings();
-			FurnaceSpeedManager.updateFurnaceSpeedMap();
 			return ActionResult.SUCCESS;
 		});
+		ResourceManagerHelper.get(ResourceType.SERVER_DATA).registerReloadListener(new FurnaceTierLoader());
+		ServerLifecycleEvents.SERVER_STARTED.register(SmeltIndex::rebuild);
+		ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> SmeltIndex.rebuild(server));
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+			SmeltIndex.clear();
+			FurnaceHotspots.cancel();
+		});
+		ServerTickEvents.END_SERVER_TICK.register(server -> {
+			FurnaceStats.onServerTick();
+			FurnaceHotspots.onServerTick(server);
+		});
+		CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> FuelTable.rebuild());
 	}
 }
\ No newline at end of file
@@ -1,13 +1,23 @@
 package net.piofox4.foxfurnace;
 
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.client.gui.screen.ingame.HandledScreens;
+import net.piofox4.foxfurnace.block.FoxFurnaceBlock;
+import net.piofox4.foxfurnace.client.FoxFurnaceScreen;
+import net.piofox4.foxfurnace.client.FurnaceEffectBudget;
+import net.piofox4.foxfurnace.screen.ModScreenHandlers;
 
 
 public class FoxFurnaceClient implements ClientModInitializer {
 
     @Override
     public void onInitializeClient() {
-
+        FoxFurnaceBlock.setEffectGate(FurnaceEffectBudget::tryAcquire);
+        ClientTickEvents.START_CLIENT_TICK.register(client -> FurnaceEffectBudget.refill());
+        HandledScreens.register(ModScreenHandlers.FOX_FURNACE, FoxFurnaceScreen::new);
+        HandledScreens.register(ModScreenHandlers.FOX_BLAST_FURNACE, FoxFurnaceScreen::new);
+        HandledScreens.register(ModScreenHandlers.FOX_SMOKER, FoxFurnaceScreen::new);
     }
 
 }
@@ -1,92 +0,0 @@
-package net.piofox4.foxfurnace.block;
-
-import com.mojang.serialization.MapCodec;
-import net.minecraft.block.AbstractFurnaceBlock;
-import net.minecraft.block.BlockState;
-import net.minecraft.block.entity.BlockEntity;
-import net.minecraft.block.entity.BlockEntityTicker;
-import net.minecraft.block.entity.BlockEntityType;
-import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.item.Item;
-import net.minecraft.item.ItemStack;
-import net.minecraft.item.tooltip.TooltipType;
-import net.minecraft.particle.ParticleTypes;
-import net.minecraft.screen.NamedScreenHandlerFactory;
-import net.minecraft.sound.SoundCategory;
-import net.minecraft.sound.SoundEvents;
-import net.minecraft.stat.Stats;
-import net.minecraft.text.Text;
-import net.minecraft.util.Formatting;
-import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Direction;
-import net.minecraft.util.math.random.Random;
-import net.minecraft.world.World;
-import net.piofox4.foxfurnace.block.entity.CopperFurnaceBlockEntity;
-import net.piofox4.foxfurnace.util.Ref;
-import org.jetbrains.annotations.Nullable;
-
-import java.util.List;
-
-public class CopperFurnaceBlock extends AbstractFurnaceBlock {
-
-    protected CopperFurnaceBlock(Settings settings) {
-        super(settings);
-    }
-
-    @Nullable
-    @Override
-    public BlockEntity createBlockEntity(BlockPos pos, BlockState state) {
-        return new CopperFurnaceBlockEntity(pos,state);
-    }
-
-    @Nullable
-    @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(World world, BlockState state, BlockEntityType<T> type) {
-        return CopperFurnaceBlockEntity::tick;
-    }
-
-    @Override
-    protected MapCodec<? extends AbstractFurnaceBlock> getCodec() {
-        return createCodec(CopperFurnaceBlock::new);
-    }
-
-    @Override
-    protected void openScreen(World world, BlockPos pos, PlayerEntity player) {
-        BlockEntity blockEntity = world.getBlockEntity(pos);
-        if (blockEntity instanceof CopperFurnaceBlockEntity) {
-            player.openHandledScreen((NamedScreenHandlerFactory)blockEntity);
-            player.incrementStat(Stats.INTERACT_WITH_FURNACE);
-        }
-    }
-
-    public void randomDisplayTick(BlockState state, World world, BlockPos pos, Random random) {
-        if (state.get(LIT)) {
-            double d = (double)pos.getX() + 0.5;
-            double e = pos.getY();
-            double f = (double)pos.getZ() + 0.5;
-            if (random.nextDouble() < 0.1) {
-                world.playSound(d, e, f, SoundEvents.BLOCK_FURNACE_FIRE_CRACKLE, SoundCategory.BLOCKS, 1.0F, 1.0F, false);
-            }
-
-            Direction direction = state.get(FACING);
-            Direction.Axis axis = direction.getAxis();
-            double g = 0.52;
-            double h = random.nextDouble() * 0.6 - 0.3;
-            double i = axis == Direction.Axis.X ? (double)direction.getOffsetX() * 0.52 : h;
-            double j = random.nextDouble() * 6.0 / 16.0;
-            double k = axis == Direction.Axis.Z ? (double)direction.getOffsetZ() * 0.52 : h;
-            world.addParticle(ParticleTypes.SMOKE, d + i, e + j, f + k, 0.0, 0.0, 0.0);
-            world.addParticle(ParticleTypes.FLAME, d + i, e + j, f + k, 0.0, 0.0, 0.0);
-        }
-    }
-    @Override
-    public void appendTooltip(ItemStack stack, Item.TooltipContext context, List<Text> tooltip, TooltipType options) {
-        super.appendTooltip(stack, context, tooltip, options);
-        float speedPercentage = (200.0f / (200 - Ref.minusTotalCookTimeCopper)) * 100;
-
-        String formattedSpeed = String.format("%.1f%%", speedPercentage);
-
-        tooltip.add(Text.translatable("tooltip.foxfurnace.speed", formattedSpeed)
-                .formatted(Formatting.GRAY));
-    }
-}
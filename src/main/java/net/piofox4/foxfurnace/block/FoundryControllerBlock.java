@@ -0,0 +1,80 @@
+package net.piofox4.foxfurnace.block;
+
+import com.mojang.serialization.MapCodec;
+import net.minecraft.block.AbstractFurnaceBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.BlockEntityTicker;
+import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.tooltip.TooltipType;
+import net.minecraft.screen.NamedScreenHandlerFactory;
+import net.minecraft.stat.Stats;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.piofox4.foxfurnace.block.entity.FoundryControllerBlockEntity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+public class FoundryControllerBlock extends AbstractFurnaceBlock {
+
+    public static final MapCodec<FoundryControllerBlock> CODEC = createCodec(FoundryControllerBlock::new);
+
+    public FoundryControllerBlock(Settings settings) {
+        super(settings);
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity createBlockEntity(BlockPos pos, BlockState state) {
+        return new FoundryControllerBlockEntity(pos, state);
+    }
+
+    @Nullable
+    @Override
+    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(World world, BlockState state, BlockEntityType<T> type) {
+        return world.isClient ? null : validateTicker(type, ModBlocks.FOUNDRY_CONTROLLER_ENTITY_TYPE, FoundryControllerBlockEntity::tick);
+    }
+
+    @Override
+    protected void neighborUpdate(BlockState state, World world, BlockPos pos, Block sourceBlock, BlockPos sourcePos, boolean notify) {
+        super.neighborUpdate(state, world, pos, sourceBlock, sourcePos, notify);
+        if (world.getBlockEntity(pos) instanceof FoundryControllerBlockEntity foundry) {
+            foundry.requestRescan();
+        }
+    }
+
+    @Override
+    protected void onStateReplaced(BlockState state, World world, BlockPos pos, BlockState newState, boolean moved) {
+        if (!state.isOf(newState.getBlock()) && world.getBlockEntity(pos) instanceof FoundryControllerBlockEntity foundry) {
+            foundry.releaseMembers(world);
+        }
+        super.onStateReplaced(state, world, pos, newState, moved);
+    }
+
+    @Override
+    protected MapCodec<? extends AbstractFurnaceBlock> getCodec() {
+        return CODEC;
+    }
+
+    @Override
+    protected void openScreen(World world, BlockPos pos, PlayerEntity player) {
+        BlockEntity blockEntity = world.getBlockEntity(pos);
+        if (blockEntity instanceof FoundryControllerBlockEntity) {
+            player.openHandledScreen((NamedScreenHandlerFactory)blockEntity);
+            player.incrementStat(Stats.INTERACT_WITH_FURNACE);
+        }
+    }
+
+    @Override
+    public void appendTooltip(ItemStack stack, Item.TooltipContext context, List<Text> tooltip, TooltipType options) {
+        super.appendTooltip(stack, context, tooltip, options);
+        tooltip.add(Text.translatable("tooltip.foxfurnace.foundry_controller").formatted(Formatting.GRAY));
+    }
+}
@@ -0,0 +1,149 @@
+package net.piofox4.foxfurnace.block;
+
+import com.mojang.serialization.MapCodec;
+import net.minecraft.block.AbstractFurnaceBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.BlockEntityTicker;
+import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.tooltip.TooltipType;
+import net.minecraft.particle.ParticleEffect;
+import net.minecraft.particle.ParticleTypes;
+import net.minecraft.screen.NamedScreenHandlerFactory;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvents;
+import net.minecraft.stat.Stats;
+import net.minecraft.text.Text;
+import net.minecraft.util.ItemScatterer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.World;
+import net.piofox4.foxfurnace.block.entity.FoundryControllerBlockEntity;
+import net.piofox4.foxfurnace.block.entity.FoxFurnaceBlockEntity;
+import net.piofox4.foxfurnace.util.FurnaceTier;
+import net.piofox4.foxfurnace.util.FurnaceTooltips;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+public class FoxFurnaceBlock extends AbstractFurnaceBlock {
+
+    private final FurnaceTier tier;
+    private final ParticleEffect flameParticle;
+    private final MapCodec<FoxFurnaceBlock> codec;
+
+    private static FurnaceEffectGate effectGate = FurnaceEffectGate.ALWAYS;
+
+    public FoxFurnaceBlock(FurnaceTier tier, Settings settings) {
+        this(tier, ParticleTypes.FLAME, settings);
+    }
+
+    public FoxFurnaceBlock(FurnaceTier tier, ParticleEffect flameParticle, Settings settings) {
+        super(settings);
+        this.tier = tier;
+        this.flameParticle = flameParticle;
+        this.codec = createCodec(blockSettings -> new FoxFurnaceBlock(tier, flameParticle, blockSettings));
+    }
+
+    public FurnaceTier getTier() {
+        return tier;
+    }
+
+    public static void setEffectGate(FurnaceEffectGate gate) {
+        effectGate = gate;
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity createBlockEntity(BlockPos pos, BlockState state) {
+        return new FoxFurnaceBlockEntity(tier,pos,state);
+    }
+
+    @Nullable
+    @Override
+    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(World world, BlockState state, BlockEntityType<T> type) {
+        return world.isClient ? null : validateTicker(type, ModBlocks.getFurnaceEntityType(tier), FoxFurnaceBlockEntity::tick);
+    }
+
+    @Override
+    protected void neighborUpdate(BlockState state, World world, BlockPos pos, Block sourceBlock, BlockPos sourcePos, boolean notify) {
+        super.neighborUpdate(state, world, pos, sourceBlock, sourcePos, notify);
+        if (world.getBlockEntity(pos) instanceof FoxFurnaceBlockEntity furnace) {
+            furnace.wake();
+        }
+    }
+
+    @Override
+    public void onPlaced(World world, BlockPos pos, BlockState state, @Nullable LivingEntity placer, ItemStack itemStack) {
+        super.onPlaced(world, pos, state, placer, itemStack);
+        if (!world.isClient && placer instanceof PlayerEntity player && world.getBlockEntity(pos) instanceof FoxFurnaceBlockEntity furnace) {
+            furnace.setOwner(player.getUuid());
+        }
+    }
+
+    @Override
+    protected void onStateReplaced(BlockState state, World world, BlockPos pos, BlockState newState, boolean moved) {
+        if (!state.isOf(newState.getBlock()) && world.getBlockEntity(pos) instanceof FoxFurnaceBlockEntity furnace) {
+            for (ItemStack stack : furnace.getOutputBuffer()) {
+                ItemScatterer.spawn(world, pos.getX(), pos.getY(), pos.getZ(), stack);
+            }
+            BlockPos foundry = furnace.getFoundry();
+            if (foundry != null && world.getBlockEntity(foundry) instanceof FoundryControllerBlockEntity controller) {
+                controller.requestRescan();
+            }
+        }
+        super.onStateReplaced(state, world, pos, newState, moved);
+    }
+
+    @Override
+    protected MapCodec<? extends AbstractFurnaceBlock> getCodec() {
+        return codec;
+    }
+
+    @Override
+    protected void openScreen(World world, BlockPos pos, PlayerEntity player) {
+        BlockEntity blockEntity = world.getBlockEntity(pos);
+        if (blockEntity instanceof FoxFurnaceBlockEntity) {
+            player.openHandledScreen((NamedScreenHandlerFactory)blockEntity);
+            player.incrementStat(Stats.INTERACT_WITH_FURNACE);
+        }
+    }
+
+    public void randomDisplayTick(BlockState state, World world, BlockPos pos, Random random) {
+        if (!state.get(LIT)) return;
+
+        // Roll for the crackle first, so the gate thins by distance once and
+        // the budget pays for the sound and both particles together.
+        boolean crackle = random.nextDouble() < 0.1;
+        if (effectGate.tryAcquire(pos, random, crackle ? 3 : 2)) {
+            double d = (double)pos.getX() + 0.5;
+            double e = pos.getY();
+            double f = (double)pos.getZ() + 0.5;
+            if (crackle) {
+                world.playSound(d, e, f, SoundEvents.BLOCK_FURNACE_FIRE_CRACKLE, SoundCategory.BLOCKS, 1.0F, 1.0F, false);
+            }
+
+            Direction direction = state.get(FACING);
+            Direction.Axis axis = direction.getAxis();
+            double h = random.nextDouble() * 0.6 - 0.3;
+            double i = axis == Direction.Axis.X ? (double)direction.getOffsetX() * 0.52 : h;
+            double j = random.nextDouble() * 6.0 / 16.0;
+            double k = axis == Direction.Axis.Z ? (double)direction.getOffsetZ() * 0.52 : h;
+            world.addParticle(ParticleTypes.SMOKE, d + i, e + j, f + k, 0.0, 0.0, 0.0);
+            world.addParticle(flameParticle, d + i, e + j, f + k, 0.0, 0.0, 0.0);
+        }
+    }
+
+    @Override
+    public void appendTooltip(ItemStack stack, Item.TooltipContext context, List<Text> tooltip, TooltipType options) {
+        super.appendTooltip(stack, context, tooltip, options);
+        tooltip.add(FurnaceTooltips.getSpeedLine(tier));
+    }
+
+}
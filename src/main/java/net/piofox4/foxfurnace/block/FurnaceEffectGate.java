@@ -0,0 +1,18 @@
+package net.piofox4.foxfurnace.block;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+
+/**
+ * Decides whether a lit furnace may spend {@code cost} particles and sounds
+ * on this display tick. Blocks only see this interface; the client
+ * initializer installs the budget, so no client class is loaded on a
+ * dedicated server.
+ */
+@FunctionalInterface
+public interface FurnaceEffectGate {
+
+    FurnaceEffectGate ALWAYS = (pos, random, cost) -> true;
+
+    boolean tryAcquire(BlockPos pos, Random random, int cost);
+}
@@ -1,5 +1,6 @@
 package net.piofox4.foxfurnace.block;
 
+import net.fabricmc.fabric.api.transfer.v1.item.ItemStorage;
 import net.minecraft.block.AbstractBlock;
 import net.minecraft.block.Block;
 import net.minecraft.block.Blocks;
@@ -8,65 +9,84 @@ import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.block.enums.NoteBlockInstrument;
 import net.minecraft.item.BlockItem;
 import net.minecraft.item.Item;
+import net.minecraft.particle.ParticleTypes;
 import net.minecraft.registry.Registries;
 import net.minecraft.registry.Registry;
 import net.minecraft.sound.BlockSoundGroup;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.Rarity;
 import net.piofox4.foxfurnace.FoxFurnace;
-import net.piofox4.foxfurnace.block.entity.*;
+import net.piofox4.foxfurnace.block.entity.FoundryControllerBlockEntity;
+import net.piofox4.foxfurnace.block.entity.FoxFurnaceBlockEntity;
+import net.piofox4.foxfurnace.util.FurnaceTier;
 
 public class ModBlocks {
 
+    private static final BlockEntityType<?>[] FURNACE_ENTITY_TYPES = new BlockEntityType<?>[FurnaceTier.VALUES.length];
+
     public static final Block COPPER_FURNACE_BLOCK = registerBlock("copper_furnace",
-            new CopperFurnaceBlock(AbstractBlock.Settings.copy(Blocks.FURNACE).mapColor(MapColor.ORANGE)
+            new FoxFurnaceBlock(FurnaceTier.COPPER, AbstractBlock.Settings.copy(Blocks.FURNACE).mapColor(MapColor.ORANGE)
                     .strength(3.0F, 6.0F).sounds(BlockSoundGroup.COPPER)));
 
-    public static final BlockEntityType<CopperFurnaceBlockEntity> COPPER_FURNACE_ENTITY_TYPE =
-            Registry.register(Registries.BLOCK_ENTITY_TYPE,Identifier.of(FoxFurnace.MOD_ID,"copper_furnace"),
-                    BlockEntityType.Builder.create(CopperFurnaceBlockEntity::new,COPPER_FURNACE_BLOCK).build());
+    public static final BlockEntityType<FoxFurnaceBlockEntity> COPPER_FURNACE_ENTITY_TYPE =
+            registerFurnaceEntity("copper_furnace", FurnaceTier.COPPER, COPPER_FURNACE_BLOCK);
 
     public static final Block IRON_FURNACE_BLOCK = registerBlock("iron_furnace",
-            new IronFurnaceBlock(AbstractBlock.Settings.copy(Blocks.FURNACE).mapColor(MapColor.IRON_GRAY)
+            new FoxFurnaceBlock(FurnaceTier.IRON, AbstractBlock.Settings.copy(Blocks.FURNACE).mapColor(MapColor.IRON_GRAY)
                     .instrument(NoteBlockInstrument.IRON_XYLOPHONE).strength(5.0F, 6.0F).sounds(BlockSoundGroup.METAL)));
 
-    public static final BlockEntityType<IronFurnaceBlockEntity> IRON_FURNACE_ENTITY_TYPE =
-            Registry.register(Registries.BLOCK_ENTITY_TYPE,Identifier.of(FoxFurnace.MOD_ID,"iron_furnace"),
-                    BlockEntityType.Builder.create(IronFurnaceBlockEntity::new,IRON_FURNACE_BLOCK).build());
+    public static final BlockEntityType<FoxFurnaceBlockEntity> IRON_FURNACE_ENTITY_TYPE =
+            registerFurnaceEntity("iron_furnace", FurnaceTier.IRON, IRON_FURNACE_BLOCK);
 
     public static final Block GOLD_FURNACE_BLOCK = registerBlock("gold_furnace",
-            new GoldFurnaceBlock(AbstractBlock.Settings.copy(Blocks.FURNACE).mapColor(MapColor.GOLD).instrument(NoteBlockInstrument.BELL)
+            new FoxFurnaceBlock(FurnaceTier.GOLD, AbstractBlock.Settings.copy(Blocks.FURNACE).mapColor(MapColor.GOLD).instrument(NoteBlockInstrument.BELL)
                     .strength(3.0F, 6.0F).sounds(BlockSoundGroup.METAL)));
 
-    public static final BlockEntityType<GoldFurnaceBlockEntity> GOLD_FURNACE_ENTITY_TYPE =
-            Registry.register(Registries.BLOCK_ENTITY_TYPE,Identifier.of(FoxFurnace.MOD_ID,"gold_furnace"),
-                    BlockEntityType.Builder.create(GoldFurnaceBlockEntity::new,GOLD_FURNACE_BLOCK).build());
+    public static final BlockEntityType<FoxFurnaceBlockEntity> GOLD_FURNACE_ENTITY_TYPE =
+            registerFurnaceEntity("gold_furnace", FurnaceTier.GOLD, GOLD_FURNACE_BLOCK);
 
     public static final Block EMERALD_FURNACE_BLOCK = registerBlock("emerald_furnace",
-            new EmeraldFurnaceBlock(AbstractBlock.Settings.copy(Blocks.FURNACE).mapColor(MapColor.EMERALD_GREEN)
+            new FoxFurnaceBlock(FurnaceTier.EMERALD, AbstractBlock.Settings.copy(Blocks.FURNACE).mapColor(MapColor.EMERALD_GREEN)
                     .instrument(NoteBlockInstrument.BIT).strength(5.0F, 6.0F).sounds(BlockSoundGroup.METAL)));
 
-    public static final BlockEntityType<EmeraldFurnaceBlockEntity> EMERALD_FURNACE_ENTITY_TYPE =
-            Registry.register(Registries.BLOCK_ENTITY_TYPE,Identifier.of(FoxFurnace.MOD_ID,"emerald_furnace"),
-                    BlockEntityType.Builder.create(EmeraldFurnaceBlockEntity::new,EMERALD_FURNACE_BLOCK).build());
+    public static final BlockEntityType<FoxFurnaceBlockEntity> EMERALD_FURNACE_ENTITY_TYPE =
+            registerFurnaceEntity("emerald_furnace", FurnaceTier.EMERALD, EMERALD_FURNACE_BLOCK);
 
     public static final Block DIAMOND_FURNACE_BLOCK = registerBlock("diamond_furnace",
-            new DiamondFurnaceBlock(AbstractBlock.Settings.copy(Blocks.FURNACE).mapColor(MapColor.DIAMOND_BLUE)
+            new FoxFurnaceBlock(FurnaceTier.DIAMOND, AbstractBlock.Settings.copy(Blocks.FURNACE).mapColor(MapColor.DIAMOND_BLUE)
                     .strength(5.0F, 6.0F).sounds(BlockSoundGroup.METAL)));
 
-    public static final BlockEntityType<DiamondFurnaceBlockEntity> DIAMOND_FURNACE_ENTITY_TYPE =
-            Registry.register(Registries.BLOCK_ENTITY_TYPE,Identifier.of(FoxFurnace.MOD_ID,"diamond_furnace"),
-                    BlockEntityType.Builder.create(DiamondFurnaceBlockEntity::new,DIAMOND_FURNACE_BLOCK).build());
+    public static final BlockEntityType<FoxFurnaceBlockEntity> DIAMOND_FURNACE_ENTITY_TYPE =
+            registerFurnaceEntity("diamond_furnace", FurnaceTier.DIAMOND, DIAMOND_FURNACE_BLOCK);
 
     public static final Block NETHERITE_FURNACE_BLOCK = registerBlock("netherite_furnace",
-            new NetheriteFurnaceBlock(AbstractBlock.Settings.copy(Blocks.FURNACE).strength(50.0F,1200.0F)
+            new FoxFurnaceBlock(FurnaceTier.NETHERITE, ParticleTypes.SOUL_FIRE_FLAME, AbstractBlock.Settings.copy(Blocks.FURNACE).strength(50.0F,1200.0F)
                     .mapColor(MapColor.BLACK).sounds(BlockSoundGroup.NETHERITE)));
 
-    public static final BlockEntityType<NetheriteFurnaceBlockEntity> NETHERITE_FURNACE_ENTITY_TYPE =
-            Registry.register(Registries.BLOCK_ENTITY_TYPE,Identifier.of(FoxFurnace.MOD_ID,"netherite_furnace"),
-                    BlockEntityType.Builder.create(NetheriteFurnaceBlockEntity::new,NETHERITE_FURNACE_BLOCK).build());
+    public static final BlockEntityType<FoxFurnaceBlockEntity> NETHERITE_FURNACE_ENTITY_TYPE =
+            registerFurnaceEntity("netherite_furnace", FurnaceTier.NETHERITE, NETHERITE_FURNACE_BLOCK);
+
+    public static final Block FOUNDRY_CONTROLLER_BLOCK = registerBlock("foundry_controller",
+            new FoundryControllerBlock(AbstractBlock.Settings.copy(Blocks.BLAST_FURNACE).mapColor(MapColor.IRON_GRAY)
+                    .strength(5.0F, 6.0F).sounds(BlockSoundGroup.METAL)));
+
+    public static final BlockEntityType<FoundryControllerBlockEntity> FOUNDRY_CONTROLLER_ENTITY_TYPE =
+            Registry.register(Registries.BLOCK_ENTITY_TYPE, Identifier.of(FoxFurnace.MOD_ID, "foundry_controller"),
+                    BlockEntityType.Builder.create(FoundryControllerBlockEntity::new, FOUNDRY_CONTROLLER_BLOCK).build());
 
 
+    private static BlockEntityType<FoxFurnaceBlockEntity> registerFurnaceEntity(String name, FurnaceTier tier, Block block) {
+        BlockEntityType<FoxFurnaceBlockEntity> type = Registry.register(Registries.BLOCK_ENTITY_TYPE, Identifier.of(FoxFurnace.MOD_ID, name),
+                BlockEntityType.Builder.create((pos, state) -> new FoxFurnaceBlockEntity(tier, pos, state), block).build());
+        FURNACE_ENTITY_TYPES[tier.getId()] = type;
+        return type;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static BlockEntityType<FoxFurnaceBlockEntity> getFurnaceEntityType(FurnaceTier tier) {
+        return (BlockEntityType<FoxFurnaceBlockEntity>) FURNACE_ENTITY_TYPES[tier.getId()];
+    }
+
     private static Block registerBlock(String name, Block block) {
         registerBlockItem(name, block);
         return Registry.register(Registries.BLOCK, Identifier.of(FoxFurnace.MOD_ID, name), block);
@@ -96,5 +116,7 @@ public class ModBlocks {
 
     public static void registerModBlocks() {
         FoxFurnace.LOGGER.info("Registering Mod Blocks for " + FoxFurnace.MOD_ID);
+        ItemStorage.SIDED.registerForBlockEntities((blockEntity, side) -> ((FoxFurnaceBlockEntity) blockEntity).getItemStorage(side),
+                FURNACE_ENTITY_TYPES);
     }
 }
@@ -0,0 +1,356 @@
+package net.piofox4.foxfurnace.block.entity;
+
+import net.minecraft.block.AbstractFurnaceBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.AbstractFurnaceBlockEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.recipe.RecipeEntry;
+import net.minecraft.recipe.RecipeManager;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.recipe.SmeltingRecipe;
+import net.minecraft.recipe.input.SingleStackRecipeInput;
+import net.minecraft.registry.DynamicRegistryManager;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.screen.ScreenHandler;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.World;
+import net.piofox4.foxfurnace.block.ModBlocks;
+import net.piofox4.foxfurnace.jfr.CookCompletionEvent;
+import net.piofox4.foxfurnace.jfr.FurnaceRescaleEvent;
+import net.piofox4.foxfurnace.mixin.AbstractFurnaceBlockEntityAccessor;
+import net.piofox4.foxfurnace.screen.FoxFurnaceScreenHandler;
+import net.piofox4.foxfurnace.util.FuelTable;
+import net.piofox4.foxfurnace.util.FurnaceStats;
+import net.piofox4.foxfurnace.util.Ref;
+import net.piofox4.foxfurnace.util.SmeltIndex;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static net.piofox4.foxfurnace.util.FurnaceSpeedManager.PROGRESS_SCALE;
+
+/**
+ * Controller of a foundry: every FoxFurnace furnace connected to it, directly
+ * or through other furnaces, becomes a member. The members stop ticking and
+ * the controller smelts from its own input, fuel and output slots, advancing
+ * by the sum of the members' cook steps each tick.
+ */
+public class FoundryControllerBlockEntity extends AbstractFurnaceBlockEntity {
+
+    private static final int INPUT_SLOT = 0;
+    private static final int FUEL_SLOT = 1;
+    private static final int OUTPUT_SLOT = 2;
+    private static final int DEFAULT_COOK_TIME = 200;
+    private static final int RESCAN_INTERVAL = 100;
+    /** Caps the items finished in one tick, so a huge foundry cannot drain a stack in a single tick. */
+    private static final int MAX_CRAFTS_PER_TICK = 64;
+    /** Furnace name in flight recorder events. */
+    private static final String FOUNDRY_NAME = "foundry";
+
+    private final RecipeManager.MatchGetter<SingleStackRecipeInput, SmeltingRecipe> matchGetter =
+            RecipeManager.createCachedMatchGetter(RecipeType.SMELTING);
+
+    private final List<BlockPos> members = new ArrayList<>();
+    /** Sum of the members' cook steps and their step-weighted fuel scale. */
+    private long cookStep;
+    private long fuelScale = PROGRESS_SCALE;
+    private boolean rescanPending = true;
+    private long nextRescan;
+
+    private long progress;
+    private int recipeCookTime = DEFAULT_COOK_TIME;
+    private long burnRemaining;
+    private long burnTotal;
+    private boolean countedAsLoaded;
+
+    public FoundryControllerBlockEntity(BlockPos pos, BlockState state) {
+        super(ModBlocks.FOUNDRY_CONTROLLER_ENTITY_TYPE, pos, state, RecipeType.SMELTING);
+    }
+
+    public static void tick(World world, BlockPos pos, BlockState state, FoundryControllerBlockEntity foundry) {
+        long start = FurnaceStats.TICK.start();
+        if (foundry.rescanPending || world.getTime() >= foundry.nextRescan) {
+            foundry.rescan(world, pos);
+        }
+        foundry.smelt(world, pos, state);
+        FurnaceStats.onTick(FurnaceStats.FOUNDRY, foundry.isBurning());
+        FurnaceStats.TICK.stop(start);
+    }
+
+    @Override
+    public void cancelRemoval() {
+        super.cancelRemoval();
+        if (!countedAsLoaded && world != null && !world.isClient) {
+            countedAsLoaded = true;
+            FurnaceStats.onLoaded(FurnaceStats.FOUNDRY);
+        }
+    }
+
+    @Override
+    public void markRemoved() {
+        super.markRemoved();
+        if (countedAsLoaded) {
+            countedAsLoaded = false;
+            FurnaceStats.onUnloaded(FurnaceStats.FOUNDRY);
+        }
+    }
+
+    public void requestRescan() {
+        rescanPending = true;
+    }
+
+    /**
+     * Collects the furnaces connected to the controller, claims the new ones,
+     * lets go of the ones no longer connected and recomputes the cook step.
+     * Furnaces whose tier cooks another recipe type than smelting, through
+     * datapack settings, neither join nor connect other furnaces.
+     */
+    private void rescan(World world, BlockPos pos) {
+        rescanPending = false;
+        nextRescan = world.getTime() + RESCAN_INTERVAL;
+
+        Set<BlockPos> found = new HashSet<>();
+        ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+        queue.add(pos);
+        int maxMembers = Ref.config.foundryMaxMembers;
+        while (!queue.isEmpty() && found.size() < maxMembers) {
+            BlockPos current = queue.poll();
+            for (Direction direction : Direction.values()) {
+                BlockPos neighbor = current.offset(direction);
+                if (found.contains(neighbor) || !world.isChunkLoaded(neighbor)) continue;
+                if (!(world.getBlockEntity(neighbor) instanceof FoxFurnaceBlockEntity furnace)) continue;
+                if (furnace.getSettings().getRecipeType(furnace.getTier()) != RecipeType.SMELTING) continue;
+                BlockPos owner = furnace.getFoundry();
+                if (owner != null && !owner.equals(pos)) continue;
+
+                found.add(neighbor);
+                queue.add(neighbor);
+                if (found.size() >= maxMembers) break;
+            }
+        }
+
+        for (BlockPos member : members) {
+            if (!found.contains(member) && world.getBlockEntity(member) instanceof FoxFurnaceBlockEntity furnace) {
+                furnace.leaveFoundry();
+            }
+        }
+        members.clear();
+
+        long totalStep = 0;
+        long weightedFuelScale = 0;
+        for (BlockPos member : found) {
+            FoxFurnaceBlockEntity furnace = (FoxFurnaceBlockEntity) world.getBlockEntity(member);
+            members.add(member);
+            furnace.joinFoundry(pos);
+            long memberStep = furnace.getSettings().getCookStep(furnace.getTier());
+            totalStep += memberStep;
+            weightedFuelScale += memberStep * furnace.getSettings().getFuelScale(furnace.getTier()) / PROGRESS_SCALE;
+        }
+        if (totalStep != cookStep) {
+            FurnaceStats.onRescale(FurnaceStats.FOUNDRY);
+            FurnaceRescaleEvent.emit(FOUNDRY_NAME, pos, cookStep, totalStep);
+        }
+        cookStep = totalStep;
+        fuelScale = totalStep > 0 ? weightedFuelScale * PROGRESS_SCALE / totalStep : PROGRESS_SCALE;
+    }
+
+    public boolean hasMember(BlockPos member) {
+        return !isRemoved() && members.contains(member);
+    }
+
+    /**
+     * Hands every member back to normal ticking, for when the controller is
+     * broken.
+     */
+    public void releaseMembers(World world) {
+        for (BlockPos member : members) {
+            if (world.getBlockEntity(member) instanceof FoxFurnaceBlockEntity furnace) {
+                furnace.leaveFoundry();
+            }
+        }
+        members.clear();
+        cookStep = 0;
+    }
+
+    private boolean isBurning() {
+        return burnRemaining > 0;
+    }
+
+    /**
+     * Fuel burned per tick: the cook step, but never less than one tick's
+     * worth, so a controller left without members still burns out.
+     */
+    private long getBurnStep() {
+        return Math.max(cookStep, PROGRESS_SCALE);
+    }
+
+    private void smelt(World world, BlockPos pos, BlockState state) {
+        boolean dirty = false;
+        if (isBurning()) {
+            burnRemaining = Math.max(0L, burnRemaining - getBurnStep());
+        }
+
+        DynamicRegistryManager registryManager = world.getRegistryManager();
+        ItemStack input = inventory.get(INPUT_SLOT);
+        ItemStack fuel = inventory.get(FUEL_SLOT);
+        RecipeEntry<SmeltingRecipe> recipe = null;
+        if (cookStep > 0 && !input.isEmpty() && (isBurning() || !fuel.isEmpty())) {
+            recipe = findRecipe(world, input);
+            if (!canAcceptRecipeOutput(registryManager, recipe)) {
+                recipe = null;
+            }
+        }
+
+        if (!isBurning() && recipe != null) {
+            int fuelTime = FuelTable.get().getBaseFuelTime(fuel);
+            burnRemaining = fuelTime * fuelScale;
+            burnTotal = burnRemaining;
+            if (isBurning()) {
+                dirty = true;
+                FurnaceStats.onFuelConsumed(FurnaceStats.FOUNDRY);
+                Item item = fuel.getItem();
+                fuel.decrement(1);
+                if (fuel.isEmpty()) {
+                    Item remainder = item.getRecipeRemainder();
+                    inventory.set(FUEL_SLOT, remainder == null ? ItemStack.EMPTY : new ItemStack(remainder));
+                }
+            }
+        }
+
+        boolean burning = isBurning();
+        if (burning && recipe != null) {
+            recipeCookTime = Math.max(1, recipe.value().getCookingTime());
+            long cookGoal = recipeCookTime * PROGRESS_SCALE;
+            progress += cookStep;
+            int crafts = 0;
+            while (progress >= cookGoal && crafts < MAX_CRAFTS_PER_TICK && canAcceptRecipeOutput(registryManager, recipe)) {
+                progress -= cookGoal;
+                craftRecipe(registryManager, recipe);
+                setLastRecipe(recipe);
+                crafts++;
+                dirty = true;
+            }
+            progress = Math.min(progress, cookGoal - 1);
+        } else if (burning || !fuel.isEmpty() && !input.isEmpty()) {
+            progress = 0;
+        } else if (progress > 0) {
+            progress = Math.max(0L, progress - 2 * PROGRESS_SCALE);
+        }
+
+        syncProperties();
+
+        if (state.get(AbstractFurnaceBlock.LIT) != burning) {
+            dirty = true;
+            state = state.with(AbstractFurnaceBlock.LIT, burning);
+            world.setBlockState(pos, state, Block.NOTIFY_ALL);
+        }
+
+        if (dirty) {
+            markDirty(world, pos, state);
+        }
+    }
+
+    private void syncProperties() {
+        AbstractFurnaceBlockEntityAccessor furnace = (AbstractFurnaceBlockEntityAccessor) this;
+        long step = Math.max(1L, cookStep);
+        long burnStep = getBurnStep();
+        furnace.foxfurnace$setBurnTime((int) Math.min(Integer.MAX_VALUE, Math.ceilDiv(burnRemaining, burnStep)));
+        furnace.foxfurnace$setFuelTime((int) Math.min(Integer.MAX_VALUE, Math.ceilDiv(burnTotal, burnStep)));
+        furnace.foxfurnace$setCookTime((int) (progress / step));
+        furnace.foxfurnace$setCookTimeTotal((int) Math.max(1, Math.ceilDiv(recipeCookTime * PROGRESS_SCALE, step)));
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private RecipeEntry<SmeltingRecipe> findRecipe(World world, ItemStack input) {
+        SmeltIndex.Entry entry = SmeltIndex.get().find(RecipeType.SMELTING, input);
+        if (entry != SmeltIndex.UNINDEXED) {
+            return entry == null ? null : (RecipeEntry<SmeltingRecipe>) entry.recipe();
+        }
+        return matchGetter.getFirstMatch(new SingleStackRecipeInput(input), world).orElse(null);
+    }
+
+    private boolean canAcceptRecipeOutput(DynamicRegistryManager registryManager, @Nullable RecipeEntry<SmeltingRecipe> recipe) {
+        if (recipe == null || inventory.get(INPUT_SLOT).isEmpty()) return false;
+
+        ItemStack result = recipe.value().getResult(registryManager);
+        if (result.isEmpty()) return false;
+
+        ItemStack output = inventory.get(OUTPUT_SLOT);
+        if (output.isEmpty()) return true;
+        if (!ItemStack.areItemsAndComponentsEqual(output, result)) return false;
+        if (output.getCount() < getMaxCountPerStack() && output.getCount() < output.getMaxCount()) return true;
+        return output.getCount() < result.getMaxCount();
+    }
+
+    private void craftRecipe(DynamicRegistryManager registryManager, RecipeEntry<SmeltingRecipe> recipe) {
+        ItemStack input = inventory.get(INPUT_SLOT);
+        ItemStack result = recipe.value().getResult(registryManager);
+        ItemStack output = inventory.get(OUTPUT_SLOT);
+        if (output.isEmpty()) {
+            inventory.set(OUTPUT_SLOT, result.copy());
+        } else {
+            output.increment(1);
+        }
+
+        if (input.isOf(Blocks.WET_SPONGE.asItem()) && inventory.get(FUEL_SLOT).isOf(Items.BUCKET)) {
+            inventory.set(FUEL_SLOT, new ItemStack(Items.WATER_BUCKET));
+        }
+
+        input.decrement(1);
+        FurnaceStats.onSmelted(FurnaceStats.FOUNDRY);
+        CookCompletionEvent.emit(FOUNDRY_NAME, pos, 0, result);
+    }
+
+    @Override
+    public void setStack(int slot, ItemStack stack) {
+        if (slot == INPUT_SLOT) {
+            ItemStack previous = inventory.get(slot);
+            if (stack.isEmpty() || !ItemStack.areItemsAndComponentsEqual(previous, stack)) {
+                progress = 0;
+            }
+        }
+        super.setStack(slot, stack);
+    }
+
+    @Override
+    protected void readNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        super.readNbt(nbt, registryLookup);
+        progress = nbt.getLong("FoxCookProgress");
+        recipeCookTime = Math.max(1, nbt.contains("FoxRecipeCookTime") ? nbt.getInt("FoxRecipeCookTime") : DEFAULT_COOK_TIME);
+        burnRemaining = nbt.getLong("FoxBurnRemaining");
+        burnTotal = nbt.getLong("FoxBurnTotal");
+    }
+
+    @Override
+    protected void writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        super.writeNbt(nbt, registryLookup);
+        nbt.putLong("FoxCookProgress", progress);
+        nbt.putInt("FoxRecipeCookTime", recipeCookTime);
+        nbt.putLong("FoxBurnRemaining", burnRemaining);
+        nbt.putLong("FoxBurnTotal", burnTotal);
+    }
+
+    @Override
+    protected Text getContainerName() {
+        return Text.translatable("container.foxfurnace.foundry", members.size());
+    }
+
+    @Override
+    protected ScreenHandler createScreenHandler(int syncId, PlayerInventory playerInventory) {
+        return new FoxFurnaceScreenHandler(syncId, playerInventory, RecipeType.SMELTING,
+                this, new ThrottledPropertyDelegate(propertyDelegate, world::getTime));
+    }
+}
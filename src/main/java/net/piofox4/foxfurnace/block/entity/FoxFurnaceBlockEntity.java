@@ -0,0 +1,1017 @@
+package net.piofox4.foxfurnace.block.entity;
+
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.minecraft.block.AbstractFurnaceBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.AbstractFurnaceBlockEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.recipe.AbstractCookingRecipe;
+import net.minecraft.recipe.RecipeEntry;
+import net.minecraft.recipe.RecipeManager;
+import net.minecraft.recipe.input.SingleStackRecipeInput;
+import net.minecraft.registry.DynamicRegistryManager;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.screen.ScreenHandler;
+import net.minecraft.text.Text;
+import net.minecraft.util.ItemScatterer;
+import net.minecraft.util.collection.DefaultedList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.World;
+import net.piofox4.foxfurnace.block.ModBlocks;
+import net.piofox4.foxfurnace.jfr.CookCompletionEvent;
+import net.piofox4.foxfurnace.jfr.FurnaceRescaleEvent;
+import net.piofox4.foxfurnace.jfr.FurnaceTickEvent;
+import net.piofox4.foxfurnace.mixin.AbstractFurnaceBlockEntityAccessor;
+import net.piofox4.foxfurnace.mixin.WorldChunkInvoker;
+import net.piofox4.foxfurnace.screen.FoxFurnaceScreenHandler;
+import net.piofox4.foxfurnace.util.FuelTable;
+import net.piofox4.foxfurnace.util.FurnaceHotspots;
+import net.piofox4.foxfurnace.util.FurnaceStats;
+import net.piofox4.foxfurnace.util.FurnaceSpeedManager;
+import net.piofox4.foxfurnace.util.FurnaceTier;
+import net.piofox4.foxfurnace.util.FurnaceTierSettings;
+import net.piofox4.foxfurnace.util.Ref;
+import net.piofox4.foxfurnace.util.SmeltIndex;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static net.piofox4.foxfurnace.util.FurnaceSpeedManager.PROGRESS_SCALE;
+
+/**
+ * Block entity shared by every FoxFurnace tier.
+ * <p>
+ * Slots 0, 1 and 2 are the vanilla input, fuel and output slots and make up
+ * lane 0. Tiers with more than one lane append an input/output pair per extra
+ * lane (3/4, 5/6, 7/8). All lanes burn the same fuel and advance in the same
+ * tick; only lane 0 is shown in the furnace screen, the others are meant to be
+ * fed and drained by hoppers or pipes.
+ */
+public class FoxFurnaceBlockEntity extends AbstractFurnaceBlockEntity {
+
+    private static final int DEFAULT_COOK_TIME = 200;
+    private static final int FUEL_SLOT = 1;
+    private static final int MAX_OUTPUT_BUFFER_STACKS = 9;
+    /** Furnaces pick up new settings within this many ticks of a reload, spread by position. */
+    private static final int SETTINGS_REFRESH_SPREAD = 20;
+
+    private static final int[][] TOP_SLOTS = new int[4][];
+    private static final int[][] BOTTOM_SLOTS = new int[4][];
+    private static final int[] SIDE_SLOTS = new int[]{FUEL_SLOT};
+
+    static {
+        for (int lanes = 1; lanes <= TOP_SLOTS.length; lanes++) {
+            int[] top = new int[lanes];
+            int[] bottom = new int[lanes + 1];
+            for (int lane = 0; lane < lanes; lane++) {
+                top[lane] = inputSlot(lane);
+                bottom[lane] = outputSlot(lane);
+            }
+            bottom[lanes] = FUEL_SLOT;
+            TOP_SLOTS[lanes - 1] = top;
+            BOTTOM_SLOTS[lanes - 1] = bottom;
+        }
+    }
+
+    private final FurnaceTier tier;
+    private RecipeManager.MatchGetter<SingleStackRecipeInput, ? extends AbstractCookingRecipe>[] laneMatchGetters;
+    private final RecipeEntry<?>[] laneRecipes;
+
+    /**
+     * Cook progress per lane in {@link FurnaceSpeedManager#PROGRESS_SCALE}
+     * units. Each tick adds the tier's cook step, so fractional speeds carry
+     * over between ticks and items instead of being rounded away.
+     */
+    private final long[] laneProgress;
+    /** Unscaled cooking time of the recipe last matched in each lane. */
+    private final int[] laneRecipeCookTimes;
+
+    /**
+     * Overflow for the output slots on the upper tiers. Results that do not
+     * fit their output slot wait here, up to {@code outputBufferStacks}
+     * stacks, instead of stalling the lane.
+     */
+    private final DefaultedList<ItemStack> outputBuffer;
+
+    /** Remaining and total burn of the current fuel item, in the same units. */
+    private long burnRemaining;
+    private long burnTotal;
+
+    /**
+     * Settings this furnace currently runs with. When a newer snapshot is
+     * published it is adopted on one of the next ticks rather than by every
+     * loaded furnace in the same tick.
+     */
+    private FurnaceTierSettings settings;
+
+    /**
+     * Bit per lane whose input has no recipe or whose output cannot take the
+     * result. Stalled lanes skip the recipe lookup and output check until the
+     * inventory changes or the settings (and with them the datapacks) reload.
+     */
+    private int stalledLanes;
+
+    /**
+     * Whether the lanes the current settings no longer run have been emptied.
+     * Checked on the first tick after loading and after every settings change.
+     */
+    private boolean inactiveLanesCleared;
+
+    /**
+     * True while this furnace has been taken off the world's ticking list
+     * because it has nothing to smelt or nothing to burn.
+     */
+    private boolean dormant;
+
+    @Nullable
+    private FoxFurnaceItemStorage itemStorage;
+
+    /**
+     * Controller of the foundry this furnace belongs to. Members stay asleep;
+     * the controller smelts on their behalf. Not saved, the controller claims
+     * its members again after loading.
+     */
+    @Nullable
+    private BlockPos foundry;
+
+    /**
+     * Set when the tick changed something comparators can see. The chunk is
+     * flagged for saving right away, but the comparator update goes out at
+     * most once per {@code comparatorUpdateInterval} ticks.
+     */
+    private boolean comparatorUpdatePending;
+    private long lastComparatorUpdate;
+
+    /**
+     * Ticks the block may still show as lit after the fuel ran out, so a
+     * hopper that delivers fuel or input a tick late does not flip LIT (and
+     * with it the light level) off and on again.
+     */
+    private int litGraceTicks;
+
+    /**
+     * World time this furnace was last saved at, or -1 once it has caught up.
+     * Only set when it is loaded with its chunk; NBT copied in from items,
+     * structures or {@code /clone} may come from another world or time.
+     */
+    private long lastSaveTime = -1;
+
+    /**
+     * World time of the last tick this furnace actually ran, and whether no
+     * player was in range at that tick. Far furnaces only run every
+     * {@code farTickInterval} ticks and make up for the skipped ones.
+     */
+    private long lastTickTime = -1;
+    private boolean farFromPlayers;
+    /** Player who placed the furnace, for the hotspot report. */
+    @Nullable
+    private UUID owner;
+    /** Whether this block entity is in the loaded count of {@link FurnaceStats}. */
+    private boolean countedAsLoaded;
+
+    public FoxFurnaceBlockEntity(FurnaceTier tier, BlockPos pos, BlockState state) {
+        super(ModBlocks.getFurnaceEntityType(tier), pos, state, FurnaceSpeedManager.getSettings().getRecipeType(tier));
+        this.tier = tier;
+        this.settings = FurnaceSpeedManager.getSettings();
+        this.inventory = DefaultedList.ofSize(1 + 2 * tier.getMaxLanes(), ItemStack.EMPTY);
+        this.laneMatchGetters = createMatchGetters(tier, settings);
+        this.laneRecipes = new RecipeEntry<?>[tier.getMaxLanes()];
+        this.laneProgress = new long[tier.getMaxLanes()];
+        this.laneRecipeCookTimes = new int[tier.getMaxLanes()];
+        this.outputBuffer = DefaultedList.ofSize(tier.hasOutputBuffer() ? MAX_OUTPUT_BUFFER_STACKS : 0, ItemStack.EMPTY);
+        Arrays.fill(laneRecipeCookTimes, DEFAULT_COOK_TIME);
+    }
+
+    public static void tick(World world, BlockPos blockPos, BlockState state, FoxFurnaceBlockEntity blockEntity) {
+        long start = FurnaceStats.TICK.start();
+        if (!FurnaceStats.HookTimer.isSampled(start) && !FurnaceHotspots.isRecording()) {
+            blockEntity.tick(world, blockPos, state);
+            return;
+        }
+        blockEntity.tickMeasured(world, blockPos, state, start);
+    }
+
+    /**
+     * A tick that is being measured, for the sampled stats timer, the flight
+     * recorder or an open hotspot window.
+     */
+    private void tickMeasured(World world, BlockPos pos, BlockState state, long start) {
+        FurnaceTickEvent event = new FurnaceTickEvent();
+        event.begin();
+        long begin = System.nanoTime();
+        tick(world, pos, state);
+        long elapsed = System.nanoTime() - begin;
+        FurnaceStats.TICK.stop(start);
+        event.complete(tier, pos);
+        FurnaceHotspots.record(world, pos, owner, elapsed);
+    }
+
+    private void tick(World world, BlockPos pos, BlockState state) {
+        if (getFoundry() != null) {
+            sleep(world);
+            return;
+        }
+        dormant = false;
+        if (settings != FurnaceSpeedManager.getSettings()
+                && Math.floorMod(world.getTime() + pos.hashCode(), SETTINGS_REFRESH_SPREAD) == 0) {
+            refreshSettings();
+        }
+        if (!inactiveLanesCleared) {
+            clearInactiveLanes(world, pos);
+        }
+        long skippedTicks = takeSkippedTicks(world, pos);
+        if (skippedTicks < 0) return;
+        if (skippedTicks > 0) {
+            simulate(world, skippedTicks);
+            markDirtyDeferred(world, pos);
+        }
+        smelt(world, pos, state);
+        FurnaceStats.onTick(tier.getId(), isBurning());
+        boolean idle = isIdle();
+        flushComparatorUpdate(world, pos, state, idle);
+        if (idle) {
+            sleep(world);
+        }
+    }
+
+    public FurnaceTier getTier() {
+        return tier;
+    }
+
+    public FurnaceTierSettings getSettings() {
+        return settings;
+    }
+
+    public void setOwner(@Nullable UUID owner) {
+        this.owner = owner;
+        markDirty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RecipeManager.MatchGetter<SingleStackRecipeInput, ? extends AbstractCookingRecipe>[] createMatchGetters(FurnaceTier tier, FurnaceTierSettings settings) {
+        RecipeManager.MatchGetter<SingleStackRecipeInput, ? extends AbstractCookingRecipe>[] matchGetters = new RecipeManager.MatchGetter[tier.getMaxLanes()];
+        for (int lane = 0; lane < matchGetters.length; lane++) {
+            matchGetters[lane] = RecipeManager.createCachedMatchGetter(settings.getRecipeType(tier));
+        }
+        return matchGetters;
+    }
+
+    /**
+     * Adopts the latest settings. Progress is stored in absolute units, so a
+     * speed change needs no rescaling; only the recipe lookups and the stalled
+     * lanes depend on the old snapshot. The superclass keeps its own lookup
+     * for the cook time of recipes outside the index, so a new recipe type
+     * replaces that one as well.
+     */
+    private void refreshSettings() {
+        FurnaceTierSettings latest = FurnaceSpeedManager.getSettings();
+        if (latest.getRecipeType(tier) != settings.getRecipeType(tier)) {
+            laneMatchGetters = createMatchGetters(tier, latest);
+            accessor().foxfurnace$setMatchGetter(RecipeManager.createCachedMatchGetter(latest.getRecipeType(tier)));
+        }
+        if (latest.getCookStep(tier) != settings.getCookStep(tier)) {
+            FurnaceStats.onRescale(tier.getId());
+            FurnaceRescaleEvent.emit(tier.getName(), pos, settings.getCookStep(tier), latest.getCookStep(tier));
+        }
+        settings = latest;
+        stalledLanes = 0;
+        inactiveLanesCleared = false;
+    }
+
+    /**
+     * Hands back the inputs of lanes the settings no longer run, for when
+     * {@code parallelLanes} is turned off or a datapack lowers the lanes.
+     * They would never smelt, and hoppers cannot pull from input slots. Each
+     * input merges into lane 0 as far as it fits; the rest is dropped.
+     */
+    private void clearInactiveLanes(World world, BlockPos pos) {
+        inactiveLanesCleared = true;
+        boolean changed = false;
+        for (int lane = settings.getLanes(tier); lane < laneProgress.length; lane++) {
+            laneProgress[lane] = 0;
+            ItemStack input = inventory.get(inputSlot(lane));
+            if (input.isEmpty()) continue;
+
+            ItemStack first = inventory.get(inputSlot(0));
+            if (first.isEmpty()) {
+                inventory.set(inputSlot(0), input);
+                laneProgress[0] = 0;
+            } else if (ItemStack.areItemsAndComponentsEqual(first, input)) {
+                int moved = Math.min(input.getCount(), Math.min(getMaxCountPerStack(), first.getMaxCount()) - first.getCount());
+                if (moved > 0) {
+                    first.increment(moved);
+                    input.decrement(moved);
+                }
+                if (!input.isEmpty()) {
+                    ItemScatterer.spawn(world, pos.getX(), pos.getY(), pos.getZ(), input);
+                }
+            } else {
+                ItemScatterer.spawn(world, pos.getX(), pos.getY(), pos.getZ(), input);
+            }
+            inventory.set(inputSlot(lane), ItemStack.EMPTY);
+            changed = true;
+        }
+        if (changed) {
+            markDirty();
+        }
+    }
+
+    private static int inputSlot(int lane) {
+        return lane == 0 ? 0 : 1 + 2 * lane;
+    }
+
+    private static int outputSlot(int lane) {
+        return 2 + 2 * lane;
+    }
+
+    private static int laneOfInputSlot(int slot) {
+        if (slot == 0) return 0;
+        return slot > 2 && slot % 2 == 1 ? (slot - 1) / 2 : -1;
+    }
+
+    private AbstractFurnaceBlockEntityAccessor accessor() {
+        return (AbstractFurnaceBlockEntityAccessor) this;
+    }
+
+    private boolean isBurning() {
+        return burnRemaining > 0;
+    }
+
+    private void smelt(World world, BlockPos pos, BlockState state) {
+        long cookStep = settings.getCookStep(tier);
+        boolean dirty = false;
+        if (isBurning()) {
+            burnRemaining = Math.max(0L, burnRemaining - cookStep);
+        }
+
+        int lanes = settings.getLanes(tier);
+        int maxCount = getMaxCountPerStack();
+        DynamicRegistryManager registryManager = world.getRegistryManager();
+        ItemStack fuel = inventory.get(FUEL_SLOT);
+        boolean hasFuel = !fuel.isEmpty();
+
+        boolean canSmelt = false;
+        for (int lane = 0; lane < lanes; lane++) {
+            ItemStack input = inventory.get(inputSlot(lane));
+            RecipeEntry<? extends AbstractCookingRecipe> recipe = null;
+            if (!isLaneStalled(lane) && !input.isEmpty() && (isBurning() || hasFuel)) {
+                recipe = findRecipe(world, lane, input);
+                if (canAcceptRecipeOutput(registryManager, recipe, lane, maxCount)) {
+                    laneRecipeCookTimes[lane] = Math.max(1, recipe.value().getCookingTime());
+                    canSmelt = true;
+                } else {
+                    recipe = null;
+                    stalledLanes |= 1 << lane;
+                }
+            }
+            laneRecipes[lane] = recipe;
+        }
+
+        if (!isBurning() && canSmelt) {
+            burnRemaining = FuelTable.get().getBurnEnergy(settings, tier, fuel);
+            burnTotal = burnRemaining;
+            if (isBurning()) {
+                dirty = true;
+                consumeFuel(fuel);
+            }
+        }
+
+        boolean burning = isBurning();
+        for (int lane = 0; lane < lanes; lane++) {
+            RecipeEntry<?> recipe = laneRecipes[lane];
+            laneRecipes[lane] = null;
+            boolean hasInput = !inventory.get(inputSlot(lane)).isEmpty();
+            if (burning || hasFuel && hasInput) {
+                if (burning && recipe != null) {
+                    long cookGoal = laneRecipeCookTimes[lane] * PROGRESS_SCALE;
+                    long progress = laneProgress[lane] + cookStep;
+                    if (progress >= cookGoal) {
+                        // Keep the overshoot so fractional speeds average out, but never
+                        // finish more than one item per lane per tick.
+                        laneProgress[lane] = Math.min(progress - cookGoal, cookGoal - 1);
+                        if (craftRecipe(registryManager, recipe, lane, maxCount)) {
+                            setLastRecipe(recipe);
+                        }
+                        dirty = true;
+                    } else {
+                        laneProgress[lane] = progress;
+                    }
+                } else {
+                    laneProgress[lane] = 0;
+                }
+            } else if (!burning && laneProgress[lane] > 0) {
+                laneProgress[lane] = Math.max(0L, laneProgress[lane] - 2 * PROGRESS_SCALE);
+            }
+        }
+
+        syncProperties(cookStep);
+
+        boolean lit = burning;
+        if (burning) {
+            litGraceTicks = Ref.config.litGraceTicks;
+        } else if (litGraceTicks > 0 && state.get(AbstractFurnaceBlock.LIT) && hasInput(lanes)) {
+            litGraceTicks--;
+            lit = true;
+        } else {
+            litGraceTicks = 0;
+        }
+
+        if (state.get(AbstractFurnaceBlock.LIT) != lit) {
+            dirty = true;
+            state = state.with(AbstractFurnaceBlock.LIT, lit);
+            world.setBlockState(pos, state, Block.NOTIFY_ALL);
+        }
+
+        if (dirty) {
+            markDirtyDeferred(world, pos);
+        }
+    }
+
+    /**
+     * Mirrors lane 0 and the fuel into the vanilla fields, in ticks at the
+     * current speed, so the screen's arrow and flame keep working unchanged.
+     */
+    private void syncProperties(long cookStep) {
+        AbstractFurnaceBlockEntityAccessor furnace = accessor();
+        furnace.foxfurnace$setBurnTime((int) Math.ceilDiv(burnRemaining, cookStep));
+        furnace.foxfurnace$setFuelTime((int) Math.ceilDiv(burnTotal, cookStep));
+        furnace.foxfurnace$setCookTime((int) (laneProgress[0] / cookStep));
+        furnace.foxfurnace$setCookTimeTotal((int) Math.ceilDiv(laneRecipeCookTimes[0] * PROGRESS_SCALE, cookStep));
+    }
+
+    private boolean hasInput(int lanes) {
+        for (int lane = 0; lane < lanes; lane++) {
+            if (!inventory.get(inputSlot(lane)).isEmpty()) return true;
+        }
+        return false;
+    }
+
+    private void markDirtyDeferred(World world, BlockPos pos) {
+        world.markDirty(pos);
+        comparatorUpdatePending = true;
+    }
+
+    private void flushComparatorUpdate(World world, BlockPos pos, BlockState state, boolean force) {
+        if (!comparatorUpdatePending) return;
+
+        long time = world.getTime();
+        if (!force && time - lastComparatorUpdate < Ref.config.comparatorUpdateInterval) return;
+        comparatorUpdatePending = false;
+        lastComparatorUpdate = time;
+        if (!state.isAir()) {
+            world.updateComparators(pos, state.getBlock());
+        }
+    }
+
+    /**
+     * Returns the buffer slot a result can go to, preferring a stack it merges
+     * into over an empty slot, or -1 if the buffer is off or full.
+     */
+    private int findBufferSlot(ItemStack result) {
+        int size = Math.min(outputBuffer.size(), Ref.config.outputBufferStacks);
+        int emptySlot = -1;
+        for (int slot = 0; slot < size; slot++) {
+            ItemStack buffered = outputBuffer.get(slot);
+            if (buffered.isEmpty()) {
+                if (emptySlot < 0) emptySlot = slot;
+            } else if (ItemStack.areItemsAndComponentsEqual(buffered, result)
+                    && buffered.getCount() + result.getCount() <= buffered.getMaxCount()) {
+                return slot;
+            }
+        }
+        return emptySlot;
+    }
+
+    /**
+     * Moves buffered results into output slots that have room again. A result
+     * only goes to an active lane whose output already holds it, or whose
+     * empty output belongs to the lane currently smelting it, so one lane's
+     * overflow never takes over another lane's output.
+     */
+    private void drainOutputBuffer() {
+        int maxCount = getMaxCountPerStack();
+        int lanes = settings.getLanes(tier);
+        for (ItemStack buffered : outputBuffer) {
+            for (int lane = 0; lane < lanes && !buffered.isEmpty(); lane++) {
+                ItemStack output = inventory.get(outputSlot(lane));
+                if (output.isEmpty()) {
+                    if (producesResult(lane, buffered)) {
+                        inventory.set(outputSlot(lane), buffered.split(maxCount));
+                    }
+                } else if (ItemStack.areItemsAndComponentsEqual(output, buffered)) {
+                    int moved = Math.min(buffered.getCount(), Math.min(maxCount, output.getMaxCount()) - output.getCount());
+                    if (moved > 0) {
+                        output.increment(moved);
+                        buffered.decrement(moved);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean producesResult(int lane, ItemStack result) {
+        RecipeEntry<?> recipe = laneRecipes[lane];
+        return recipe != null && world != null
+                && ItemStack.areItemsAndComponentsEqual(recipe.value().getResult(world.getRegistryManager()), result);
+    }
+
+    /**
+     * Results waiting in the output buffer. Pipes drain it from the bottom
+     * side, and the block drops it when broken.
+     */
+    public DefaultedList<ItemStack> getOutputBuffer() {
+        return outputBuffer;
+    }
+
+    private void consumeFuel(ItemStack fuel) {
+        FurnaceStats.onFuelConsumed(tier.getId());
+        Item item = fuel.getItem();
+        fuel.decrement(1);
+        if (fuel.isEmpty()) {
+            Item remainder = item.getRecipeRemainder();
+            inventory.set(FUEL_SLOT, remainder == null ? ItemStack.EMPTY : new ItemStack(remainder));
+        }
+    }
+
+    /**
+     * Returns how many ticks since this furnace last ran still have to be
+     * made up for, or -1 if it should skip this tick. That covers both the
+     * time its chunk was unloaded and the ticks skipped while far from players.
+     */
+    private long takeSkippedTicks(World world, BlockPos pos) {
+        long time = world.getTime();
+        long skippedTicks = 0;
+        if (lastSaveTime >= 0) {
+            if (Ref.config.catchUpSmelting) {
+                skippedTicks = Math.max(0, time - lastSaveTime - 1);
+            }
+            lastSaveTime = -1;
+        } else if (farFromPlayers && lastTickTime >= 0) {
+            long sinceLastTick = time - lastTickTime;
+            if (sinceLastTick < Ref.config.farTickInterval) return -1;
+            skippedTicks = Math.min(sinceLastTick, Ref.config.farTickInterval) - 1;
+        }
+
+        lastTickTime = time;
+        farFromPlayers = Ref.config.farTickInterval > 1
+                && !world.isPlayerInRange(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5, Ref.config.farTickDistance);
+        return skippedTicks;
+    }
+
+    /**
+     * Runs {@code ticks} furnace ticks at once. Between two events, an item
+     * finishing in some lane or the current fuel item running out, every
+     * active lane gains the same progress and the burn drops by the same
+     * amount, so each stretch is applied in one step. The number of stretches
+     * is bounded by the items and fuel in the inventory, not by {@code ticks}.
+     */
+    private void simulate(World world, long ticks) {
+        long cookStep = settings.getCookStep(tier);
+        int lanes = settings.getLanes(tier);
+        int maxCount = getMaxCountPerStack();
+        DynamicRegistryManager registryManager = world.getRegistryManager();
+        stalledLanes = 0;
+
+        while (ticks > 0) {
+            long nextCompletion = Long.MAX_VALUE;
+            for (int lane = 0; lane < lanes; lane++) {
+                ItemStack input = inventory.get(inputSlot(lane));
+                RecipeEntry<? extends AbstractCookingRecipe> recipe = input.isEmpty() ? null : findRecipe(world, lane, input);
+                if (canAcceptRecipeOutput(registryManager, recipe, lane, maxCount)) {
+                    laneRecipeCookTimes[lane] = Math.max(1, recipe.value().getCookingTime());
+                    nextCompletion = Math.min(nextCompletion, ticksToComplete(lane, cookStep));
+                    laneRecipes[lane] = recipe;
+                } else {
+                    laneRecipes[lane] = null;
+                }
+            }
+            if (nextCompletion == Long.MAX_VALUE) break;
+
+            // Ticks the current fuel keeps burning before a tick drains it to zero.
+            long burnTicks = burnRemaining > 0 ? (burnRemaining - 1) / cookStep : 0;
+            if (burnTicks == 0) {
+                ItemStack fuel = inventory.get(FUEL_SLOT);
+                long burnEnergy = FuelTable.get().getBurnEnergy(settings, tier, fuel);
+                if (burnEnergy <= 0) break;
+                consumeFuel(fuel);
+                // The tick that lights the fuel also drains it by one step.
+                burnTotal = burnEnergy;
+                burnRemaining = burnEnergy + cookStep;
+                burnTicks = Math.ceilDiv(burnEnergy, cookStep);
+            }
+
+            long stretch = Math.min(ticks, Math.min(burnTicks, nextCompletion));
+            burnRemaining -= stretch * cookStep;
+            ticks -= stretch;
+            for (int lane = 0; lane < lanes; lane++) {
+                RecipeEntry<?> recipe = laneRecipes[lane];
+                laneRecipes[lane] = null;
+                if (recipe == null) {
+                    laneProgress[lane] = 0;
+                    continue;
+                }
+                long cookGoal = laneRecipeCookTimes[lane] * PROGRESS_SCALE;
+                long progress = laneProgress[lane] + stretch * cookStep;
+                if (progress >= cookGoal) {
+                    laneProgress[lane] = Math.min(progress - cookGoal, cookGoal - 1);
+                    if (craftRecipe(registryManager, recipe, lane, maxCount)) {
+                        setLastRecipe(recipe);
+                    }
+                } else {
+                    laneProgress[lane] = progress;
+                }
+            }
+        }
+        Arrays.fill(laneRecipes, null);
+        if (ticks <= 0) return;
+
+        // Nothing left that can smelt: the fuel burns out and the lanes cool down.
+        ItemStack fuel = inventory.get(FUEL_SLOT);
+        boolean hasFuel = !fuel.isEmpty();
+        for (int lane = 0; lane < lanes; lane++) {
+            if (isBurning() || hasFuel && !inventory.get(inputSlot(lane)).isEmpty()) {
+                laneProgress[lane] = 0;
+            } else {
+                laneProgress[lane] = drain(laneProgress[lane], ticks, 2 * PROGRESS_SCALE);
+            }
+        }
+        burnRemaining = drain(burnRemaining, ticks, cookStep);
+    }
+
+    private static long drain(long amount, long ticks, long perTick) {
+        return ticks >= Math.ceilDiv(amount, perTick) ? 0L : amount - ticks * perTick;
+    }
+
+    private long ticksToComplete(int lane, long cookStep) {
+        long cookGoal = laneRecipeCookTimes[lane] * PROGRESS_SCALE;
+        if (cookStep >= cookGoal) return 1;
+        return Math.max(1, Math.ceilDiv(cookGoal - laneProgress[lane], cookStep));
+    }
+
+    /**
+     * Looks the input up in the smelt index, falling back to the lane's
+     * cached match getter for recipe types the index does not cover.
+     */
+    @Nullable
+    private RecipeEntry<? extends AbstractCookingRecipe> findRecipe(World world, int lane, ItemStack input) {
+        SmeltIndex.Entry entry = SmeltIndex.get().find(settings.getRecipeType(tier), input);
+        if (entry != SmeltIndex.UNINDEXED) {
+            return entry == null ? null : entry.recipe();
+        }
+        return laneMatchGetters[lane].getFirstMatch(new SingleStackRecipeInput(input), world).orElse(null);
+    }
+
+    /**
+     * Cook time in ticks at this tier's speed for the item in slot 0, or -1 if
+     * the smelt index does not cover this furnace's recipe type.
+     */
+    public int getIndexedCookTime() {
+        SmeltIndex.Entry entry = SmeltIndex.get().find(settings.getRecipeType(tier), inventory.get(0));
+        if (entry == SmeltIndex.UNINDEXED) return -1;
+        if (entry == null) return FurnaceSpeedManager.getAdjustedCookTime(DEFAULT_COOK_TIME, this);
+        return entry.getTierCookTime(tier);
+    }
+
+    private boolean isLaneStalled(int lane) {
+        return (stalledLanes & (1 << lane)) != 0;
+    }
+
+    private boolean canAcceptRecipeOutput(DynamicRegistryManager registryManager, @Nullable RecipeEntry<?> recipe, int lane, int maxCount) {
+        if (recipe == null || inventory.get(inputSlot(lane)).isEmpty()) return false;
+
+        ItemStack result = recipe.value().getResult(registryManager);
+        if (result.isEmpty()) return false;
+
+        return fitsOutput(inventory.get(outputSlot(lane)), result, maxCount) || findBufferSlot(result) >= 0;
+    }
+
+    private static boolean fitsOutput(ItemStack output, ItemStack result, int maxCount) {
+        if (output.isEmpty()) return true;
+        if (!ItemStack.areItemsAndComponentsEqual(output, result)) return false;
+        if (output.getCount() < maxCount && output.getCount() < output.getMaxCount()) return true;
+        return output.getCount() < result.getMaxCount();
+    }
+
+    private boolean craftRecipe(DynamicRegistryManager registryManager, @Nullable RecipeEntry<?> recipe, int lane, int maxCount) {
+        if (!canAcceptRecipeOutput(registryManager, recipe, lane, maxCount)) return false;
+
+        ItemStack input = inventory.get(inputSlot(lane));
+        ItemStack result = recipe.value().getResult(registryManager);
+        ItemStack output = inventory.get(outputSlot(lane));
+        if (output.isEmpty()) {
+            inventory.set(outputSlot(lane), result.copy());
+        } else if (fitsOutput(output, result, maxCount)) {
+            output.increment(1);
+        } else {
+            int bufferSlot = findBufferSlot(result);
+            ItemStack buffered = outputBuffer.get(bufferSlot);
+            if (buffered.isEmpty()) {
+                outputBuffer.set(bufferSlot, result.copy());
+            } else {
+                buffered.increment(result.getCount());
+            }
+        }
+
+        if (input.isOf(Blocks.WET_SPONGE.asItem()) && inventory.get(FUEL_SLOT).isOf(Items.BUCKET)) {
+            inventory.set(FUEL_SLOT, new ItemStack(Items.WATER_BUCKET));
+        }
+
+        input.decrement(1);
+        FurnaceStats.onSmelted(tier.getId());
+        CookCompletionEvent.emit(tier.getName(), pos, lane, result);
+        return true;
+    }
+
+    /**
+     * Called from the {@code setStack} hook before the stack is stored.
+     */
+    public void onStackSet(int slot, ItemStack stack) {
+        stalledLanes = 0;
+        wake();
+        if (slot == 0 && !isSameItem(inventory.get(slot), stack)) {
+            laneProgress[0] = 0;
+        }
+    }
+
+    private static boolean isSameItem(ItemStack previous, ItemStack stack) {
+        return !stack.isEmpty() && ItemStack.areItemsAndComponentsEqual(previous, stack);
+    }
+
+    @Override
+    public void setStack(int slot, ItemStack stack) {
+        int lane = laneOfInputSlot(slot);
+        if (lane <= 0) {
+            super.setStack(slot, stack);
+            return;
+        }
+
+        stalledLanes = 0;
+        wake();
+        boolean sameItem = isSameItem(inventory.get(slot), stack);
+        inventory.set(slot, stack);
+        stack.capCount(getMaxCount(stack));
+        if (!sameItem) {
+            laneProgress[lane] = 0;
+            markDirty();
+        }
+    }
+
+    public Storage<ItemVariant> getItemStorage(@Nullable Direction side) {
+        if (itemStorage == null) {
+            itemStorage = new FoxFurnaceItemStorage(this);
+        }
+        return itemStorage.getSide(side);
+    }
+
+    /**
+     * Writes a slot for the Transfer API. Unlike {@link #setStack} this has no
+     * side effects; they are applied once in {@link #onTransferCommitted}.
+     */
+    void setStackFromTransfer(int slot, ItemStack stack) {
+        inventory.set(slot, stack);
+    }
+
+    /**
+     * Called once per committed transfer transaction. Lanes whose input was
+     * empty before the transfer start cooking from zero, like a vanilla
+     * {@code setStack} with a new item.
+     */
+    void onTransferCommitted(int filledSlots) {
+        for (int lane = 0; lane < laneProgress.length; lane++) {
+            if ((filledSlots & (1 << inputSlot(lane))) != 0) {
+                laneProgress[lane] = 0;
+            }
+        }
+        markDirty();
+    }
+
+    @Override
+    public int[] getAvailableSlots(Direction side) {
+        if (side == Direction.DOWN) {
+            return BOTTOM_SLOTS[tier.getMaxLanes() - 1];
+        }
+        return side == Direction.UP ? TOP_SLOTS[tier.getMaxLanes() - 1] : SIDE_SLOTS;
+    }
+
+    @Override
+    public boolean isValid(int slot, ItemStack stack) {
+        if (slot > 2) {
+            int lane = laneOfInputSlot(slot);
+            return lane > 0 && lane < settings.getLanes(tier);
+        }
+        if (slot == FUEL_SLOT) {
+            return FuelTable.get().isFuel(stack) || stack.isOf(Items.BUCKET) && !inventory.get(FUEL_SLOT).isOf(Items.BUCKET);
+        }
+        return super.isValid(slot, stack);
+    }
+
+    /**
+     * Hoppers and pipes always fill the emptiest lane that can take the
+     * stack, so the lanes stay balanced instead of lane 0 filling up first.
+     * Foundry members take nothing; their inputs would never smelt.
+     */
+    @Override
+    public boolean canInsert(int slot, ItemStack stack, @Nullable Direction dir) {
+        if (getFoundry() != null || !isValid(slot, stack)) return false;
+
+        int lane = laneOfInputSlot(slot);
+        if (lane < 0) return true;
+
+        int lanes = settings.getLanes(tier);
+        if (lane >= lanes) return false;
+
+        int count = inventory.get(slot).getCount();
+        for (int other = 0; other < lanes; other++) {
+            ItemStack otherInput = inventory.get(inputSlot(other));
+            if (other != lane && otherInput.getCount() < count
+                    && (otherInput.isEmpty() || ItemStack.areItemsAndComponentsEqual(otherInput, stack))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isIdle() {
+        if (isBurning() || litGraceTicks > 0) return false;
+
+        ItemStack fuel = inventory.get(FUEL_SLOT);
+        boolean hasFuel = !fuel.isEmpty() && FuelTable.get().isFuel(fuel);
+        int lanes = settings.getLanes(tier);
+        for (int lane = 0; lane < lanes; lane++) {
+            if (laneProgress[lane] > 0) return false;
+            if (hasFuel && !isLaneStalled(lane) && !inventory.get(inputSlot(lane)).isEmpty()) return false;
+        }
+        return true;
+    }
+
+    private void sleep(World world) {
+        dormant = true;
+        lastTickTime = -1;
+        ((WorldChunkInvoker) world.getWorldChunk(pos)).foxfurnace$removeBlockEntityTicker(pos);
+    }
+
+    /**
+     * Controller this furnace smelts for, or null. A controller that was
+     * unloaded or replaced without releasing its members leaves a stale
+     * position behind; it is dropped here so the furnace runs on its own again.
+     */
+    @Nullable
+    public BlockPos getFoundry() {
+        if (foundry != null && world != null && !world.isClient
+                && !(world.isChunkLoaded(foundry)
+                && world.getBlockEntity(foundry) instanceof FoundryControllerBlockEntity controller
+                && controller.hasMember(pos))) {
+            foundry = null;
+        }
+        return foundry;
+    }
+
+    public void joinFoundry(BlockPos controller) {
+        if (controller.equals(foundry) || world == null) return;
+
+        foundry = controller.toImmutable();
+        if (!dormant) {
+            sleep(world);
+        }
+        BlockState state = getCachedState();
+        if (state.get(AbstractFurnaceBlock.LIT)) {
+            world.setBlockState(pos, state.with(AbstractFurnaceBlock.LIT, false), Block.NOTIFY_ALL);
+        }
+    }
+
+    public void leaveFoundry() {
+        if (foundry == null) return;
+
+        foundry = null;
+        wake();
+    }
+
+    @Override
+    public void cancelRemoval() {
+        super.cancelRemoval();
+        if (!countedAsLoaded && world != null && !world.isClient) {
+            countedAsLoaded = true;
+            FurnaceStats.onLoaded(tier.getId());
+        }
+    }
+
+    @Override
+    public void markRemoved() {
+        super.markRemoved();
+        if (countedAsLoaded) {
+            countedAsLoaded = false;
+            FurnaceStats.onUnloaded(tier.getId());
+        }
+    }
+
+    /**
+     * Puts a dormant furnace back on the ticking list. Cheap to call when the
+     * furnace is already awake, so every inventory or neighbour change can
+     * simply call it.
+     */
+    public void wake() {
+        if (!dormant || world == null || world.isClient || isRemoved() || getFoundry() != null) return;
+        dormant = false;
+        ((WorldChunkInvoker) world.getWorldChunk(pos)).foxfurnace$updateTicker(this);
+    }
+
+    /**
+     * Hopper merges and extractions, Transfer API commits and screen slot
+     * clicks all end in this call, so it is where stalled lanes get another
+     * look at their recipe and output.
+     */
+    @Override
+    public void markDirty() {
+        drainOutputBuffer();
+        super.markDirty();
+        stalledLanes = 0;
+        wake();
+    }
+
+    @Override
+    protected void readNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        super.readNbt(nbt, registryLookup);
+        // The block entity has no world yet only when it is created from its chunk's data.
+        lastSaveTime = world == null && nbt.contains("FoxSaveTime", NbtElement.LONG_TYPE) ? nbt.getLong("FoxSaveTime") : -1;
+        owner = nbt.containsUuid("FoxOwner") ? nbt.getUuid("FoxOwner") : null;
+        Collections.fill(outputBuffer, ItemStack.EMPTY);
+        NbtList buffer = nbt.getList("FoxOutputBuffer", NbtElement.COMPOUND_TYPE);
+        for (int slot = 0; slot < Math.min(buffer.size(), outputBuffer.size()); slot++) {
+            outputBuffer.set(slot, ItemStack.fromNbt(registryLookup, buffer.getCompound(slot)).orElse(ItemStack.EMPTY));
+        }
+        if (nbt.contains("FoxCookProgress", NbtElement.LONG_ARRAY_TYPE)) {
+            long[] progress = nbt.getLongArray("FoxCookProgress");
+            System.arraycopy(progress, 0, laneProgress, 0, Math.min(progress.length, laneProgress.length));
+            int[] cookTimes = nbt.getIntArray("FoxRecipeCookTimes");
+            for (int lane = 0; lane < Math.min(cookTimes.length, laneRecipeCookTimes.length); lane++) {
+                laneRecipeCookTimes[lane] = Math.max(1, cookTimes[lane]);
+            }
+            burnRemaining = nbt.getLong("FoxBurnRemaining");
+            burnTotal = nbt.getLong("FoxBurnTotal");
+        } else {
+            // Saved before fixed-point progress: the vanilla fields are ticks at the tier speed.
+            // The fuel time is not saved, so like vanilla it is taken from the fuel slot.
+            AbstractFurnaceBlockEntityAccessor furnace = accessor();
+            long cookStep = settings.getCookStep(tier);
+            burnRemaining = furnace.foxfurnace$getBurnTime() * cookStep;
+            burnTotal = Math.max(burnRemaining, FuelTable.get().getBurnEnergy(settings, tier, inventory.get(FUEL_SLOT)));
+            laneProgress[0] = furnace.foxfurnace$getCookTime() * cookStep;
+            if (furnace.foxfurnace$getCookTimeTotal() > 0) {
+                laneRecipeCookTimes[0] = (int) Math.max(1, furnace.foxfurnace$getCookTimeTotal() * cookStep / PROGRESS_SCALE);
+            }
+        }
+    }
+
+    @Override
+    protected void writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        super.writeNbt(nbt, registryLookup);
+        nbt.putLongArray("FoxCookProgress", laneProgress);
+        nbt.putIntArray("FoxRecipeCookTimes", laneRecipeCookTimes);
+        nbt.putLong("FoxBurnRemaining", burnRemaining);
+        nbt.putLong("FoxBurnTotal", burnTotal);
+        if (!outputBuffer.isEmpty()) {
+            NbtList buffer = new NbtList();
+            for (ItemStack stack : outputBuffer) {
+                if (!stack.isEmpty()) {
+                    buffer.add(stack.encode(registryLookup));
+                }
+            }
+            nbt.put("FoxOutputBuffer", buffer);
+        }
+        if (owner != null) {
+            nbt.putUuid("FoxOwner", owner);
+        }
+        if (world != null) {
+            nbt.putLong("FoxSaveTime", world.getTime());
+        }
+    }
+
+    @Override
+    public void removeFromCopiedStackNbt(NbtCompound nbt) {
+        super.removeFromCopiedStackNbt(nbt);
+        nbt.remove("FoxSaveTime");
+    }
+
+    @Override
+    protected Text getContainerName() {
+        return world != null ? world.getBlockState(this.pos).getBlock().getName() : null;
+    }
+
+    @Override
+    protected ScreenHandler createScreenHandler(int syncId, PlayerInventory playerInventory) {
+        return new FoxFurnaceScreenHandler(syncId, playerInventory, settings.getRecipeType(tier),
+                this, new ThrottledPropertyDelegate(propertyDelegate, world::getTime));
+    }
+}
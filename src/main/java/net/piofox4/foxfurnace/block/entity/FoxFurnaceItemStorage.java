@@ -0,0 +1,191 @@
+package net.piofox4.foxfurnace.block.entity;
+
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.CombinedStorage;
+import net.fabricmc.fabric.api.transfer.v1.storage.base.SingleStackStorage;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+import net.fabricmc.fabric.api.transfer.v1.transaction.base.SnapshotParticipant;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.Direction;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transfer API view of a {@link FoxFurnaceBlockEntity}'s inventory.
+ * <p>
+ * Pipes can move a whole stack per call. Slots are written directly instead
+ * of through {@code setStack}, and the furnace hears about the transfer once,
+ * when the outermost transaction commits, no matter how many items or slots
+ * it touched.
+ */
+public class FoxFurnaceItemStorage {
+
+    private final FoxFurnaceBlockEntity furnace;
+    private final TransferCommit commit = new TransferCommit();
+    private final Storage<ItemVariant>[] sides;
+    private final Storage<ItemVariant> unsided;
+
+    @SuppressWarnings("unchecked")
+    FoxFurnaceItemStorage(FoxFurnaceBlockEntity furnace) {
+        this.furnace = furnace;
+        this.sides = new Storage[Direction.values().length];
+        for (Direction side : Direction.values()) {
+            sides[side.getId()] = createSide(side);
+        }
+        this.unsided = createSide(null);
+    }
+
+    public Storage<ItemVariant> getSide(@Nullable Direction side) {
+        return side == null ? unsided : sides[side.getId()];
+    }
+
+    private Storage<ItemVariant> createSide(@Nullable Direction side) {
+        int[] slots = side == null ? allSlots() : furnace.getAvailableSlots(side);
+        List<SingleStackStorage> storages = new ArrayList<>(slots.length);
+        for (int slot : slots) {
+            storages.add(new SlotStorage(slot, side));
+        }
+        if (side == null || side == Direction.DOWN) {
+            for (int slot = 0; slot < furnace.getOutputBuffer().size(); slot++) {
+                storages.add(new BufferStorage(slot));
+            }
+        }
+        return new CombinedStorage<>(storages);
+    }
+
+    private int[] allSlots() {
+        int[] slots = new int[furnace.size()];
+        for (int slot = 0; slot < slots.length; slot++) {
+            slots[slot] = slot;
+        }
+        return slots;
+    }
+
+    private class SlotStorage extends SingleStackStorage {
+
+        private final int slot;
+        @Nullable
+        private final Direction side;
+
+        SlotStorage(int slot, @Nullable Direction side) {
+            this.slot = slot;
+            this.side = side;
+        }
+
+        @Override
+        protected ItemStack getStack() {
+            return furnace.getStack(slot);
+        }
+
+        @Override
+        protected void setStack(ItemStack stack) {
+            furnace.setStackFromTransfer(slot, stack);
+        }
+
+        @Override
+        protected boolean canInsert(ItemVariant variant) {
+            return furnace.canInsert(slot, variant.toStack(), side);
+        }
+
+        @Override
+        protected boolean canExtract(ItemVariant variant) {
+            return side == null || furnace.canExtract(slot, variant.toStack(), side);
+        }
+
+        @Override
+        protected int getCapacity(ItemVariant variant) {
+            return Math.min(furnace.getMaxCountPerStack(), variant.toStack().getMaxCount());
+        }
+
+        @Override
+        public long insert(ItemVariant variant, long maxAmount, TransactionContext transaction) {
+            boolean wasEmpty = getStack().isEmpty();
+            long inserted = super.insert(variant, maxAmount, transaction);
+            if (inserted > 0) {
+                commit.onTransfer(transaction, wasEmpty ? slot : -1);
+            }
+            return inserted;
+        }
+
+        @Override
+        public long extract(ItemVariant variant, long maxAmount, TransactionContext transaction) {
+            long extracted = super.extract(variant, maxAmount, transaction);
+            if (extracted > 0) {
+                commit.onTransfer(transaction, -1);
+            }
+            return extracted;
+        }
+    }
+
+    /**
+     * Extract-only view of one output buffer stack.
+     */
+    private class BufferStorage extends SingleStackStorage {
+
+        private final int slot;
+
+        BufferStorage(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        protected ItemStack getStack() {
+            return furnace.getOutputBuffer().get(slot);
+        }
+
+        @Override
+        protected void setStack(ItemStack stack) {
+            furnace.getOutputBuffer().set(slot, stack);
+        }
+
+        @Override
+        protected boolean canInsert(ItemVariant variant) {
+            return false;
+        }
+
+        @Override
+        public long extract(ItemVariant variant, long maxAmount, TransactionContext transaction) {
+            long extracted = super.extract(variant, maxAmount, transaction);
+            if (extracted > 0) {
+                commit.onTransfer(transaction, -1);
+            }
+            return extracted;
+        }
+    }
+
+    /**
+     * Collects the slots that were filled from empty during a transaction and
+     * reports them to the furnace once, on the final commit.
+     */
+    private class TransferCommit extends SnapshotParticipant<Integer> {
+
+        private int filledSlots;
+
+        void onTransfer(TransactionContext transaction, int filledSlot) {
+            updateSnapshots(transaction);
+            if (filledSlot >= 0) {
+                filledSlots |= 1 << filledSlot;
+            }
+        }
+
+        @Override
+        protected Integer createSnapshot() {
+            return filledSlots;
+        }
+
+        @Override
+        protected void readSnapshot(Integer snapshot) {
+            filledSlots = snapshot;
+        }
+
+        @Override
+        protected void onFinalCommit() {
+            int filled = filledSlots;
+            filledSlots = 0;
+            furnace.onTransferCommitted(filled);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package net.piofox4.foxfurnace.block.entity;
+
+import net.minecraft.screen.PropertyDelegate;
+import net.piofox4.foxfurnace.util.Ref;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Screen-side view of a furnace's four synced properties that only lets a
+ * new value through on a meaningful change, or once every
+ * {@code screenSyncInterval} ticks. The screen handler sends a property only
+ * when the value it reads changes, so a fast furnace no longer costs a packet
+ * per tick per viewer. The client extrapolates the progress bars between
+ * updates.
+ * <p>
+ * One instance per open screen, since each tracks what its viewer was sent.
+ */
+class ThrottledPropertyDelegate implements PropertyDelegate {
+
+    private static final int BURN_TIME = 0;
+    private static final int COOK_TIME = 2;
+
+    private final PropertyDelegate source;
+    private final LongSupplier time;
+    private final int[] sent = new int[4];
+    private final long[] sentTime = new long[4];
+
+    ThrottledPropertyDelegate(PropertyDelegate source, LongSupplier time) {
+        this.source = source;
+        this.time = time;
+        long now = time.getAsLong();
+        for (int index = 0; index < sent.length; index++) {
+            sent[index] = source.get(index);
+            sentTime[index] = now;
+        }
+    }
+
+    @Override
+    public int get(int index) {
+        int value = source.get(index);
+        int previous = sent[index];
+        if (value == previous) return value;
+
+        long now = time.getAsLong();
+        if (isMeaningful(index, previous, value) || now - sentTime[index] >= Ref.config.screenSyncInterval) {
+            sent[index] = value;
+            sentTime[index] = now;
+        }
+        return sent[index];
+    }
+
+    /**
+     * Changes the client cannot predict: fuel lit or run out, an item
+     * finished or started, or a new fuel or recipe length. Steady burn-down
+     * and cook progress are what it extrapolates.
+     */
+    private static boolean isMeaningful(int index, int previous, int value) {
+        return switch (index) {
+            case BURN_TIME -> previous == 0 || value == 0 || value > previous;
+            case COOK_TIME -> previous == 0 || value == 0 || value < previous / 2;
+            default -> true;
+        };
+    }
+
+    @Override
+    public void set(int index, int value) {
+        source.set(index, value);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
@@ -0,0 +1,44 @@
+package net.piofox4.foxfurnace.client;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.gui.screen.ingame.AbstractFurnaceScreen;
+import net.minecraft.client.gui.screen.recipebook.AbstractFurnaceRecipeBookScreen;
+import net.minecraft.client.gui.screen.recipebook.BlastFurnaceRecipeBookScreen;
+import net.minecraft.client.gui.screen.recipebook.FurnaceRecipeBookScreen;
+import net.minecraft.client.gui.screen.recipebook.SmokerRecipeBookScreen;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.recipe.book.RecipeBookCategory;
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+import net.piofox4.foxfurnace.screen.FoxFurnaceScreenHandler;
+
+/**
+ * The vanilla furnace screen, ticking the progress extrapolation of its
+ * handler, with the recipe book of the recipe type the furnace cooks.
+ */
+@Environment(EnvType.CLIENT)
+public class FoxFurnaceScreen extends AbstractFurnaceScreen<FoxFurnaceScreenHandler> {
+
+    private static final Identifier LIT_PROGRESS_TEXTURE = Identifier.ofVanilla("container/furnace/lit_progress");
+    private static final Identifier BURN_PROGRESS_TEXTURE = Identifier.ofVanilla("container/furnace/burn_progress");
+    private static final Identifier TEXTURE = Identifier.ofVanilla("textures/gui/container/furnace.png");
+
+    public FoxFurnaceScreen(FoxFurnaceScreenHandler handler, PlayerInventory inventory, Text title) {
+        super(handler, createRecipeBook(handler.getCategory()), inventory, title, TEXTURE, LIT_PROGRESS_TEXTURE, BURN_PROGRESS_TEXTURE);
+    }
+
+    private static AbstractFurnaceRecipeBookScreen createRecipeBook(RecipeBookCategory category) {
+        return switch (category) {
+            case BLAST_FURNACE -> new BlastFurnaceRecipeBookScreen();
+            case SMOKER -> new SmokerRecipeBookScreen();
+            default -> new FurnaceRecipeBookScreen();
+        };
+    }
+
+    @Override
+    public void handledScreenTick() {
+        super.handledScreenTick();
+        handler.tickProgress();
+    }
+}
@@ -0,0 +1,49 @@
+package net.piofox4.foxfurnace.client;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
+import net.piofox4.foxfurnace.util.Ref;
+
+/**
+ * Shared budget for the smoke, flame and crackle of lit FoxFurnace blocks.
+ * Display ticks run once per client tick, so the budget is refilled there.
+ * Furnaces within the full detail distance of the camera always get their
+ * effects while the budget lasts; further away the chance falls with the
+ * square of the distance, matching how fast they shrink on screen.
+ */
+@Environment(EnvType.CLIENT)
+public final class FurnaceEffectBudget {
+
+    private static int remaining;
+    private static double fullDetailDistanceSquared;
+
+    private FurnaceEffectBudget() {
+    }
+
+    public static void refill() {
+        remaining = Ref.config.furnaceEffectBudget;
+        int fullDetailDistance = Ref.config.furnaceEffectFullDetailDistance;
+        fullDetailDistanceSquared = (double) fullDetailDistance * fullDetailDistance;
+    }
+
+    /**
+     * Spends {@code cost} effects on a furnace at {@code pos}, unless the
+     * budget is used up or the furnace is thinned out by its distance.
+     */
+    public static boolean tryAcquire(BlockPos pos, Random random, int cost) {
+        if (remaining < cost) return false;
+
+        Vec3d camera = MinecraftClient.getInstance().gameRenderer.getCamera().getPos();
+        double distanceSquared = camera.squaredDistanceTo(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5);
+        if (distanceSquared > fullDetailDistanceSquared && random.nextDouble() * distanceSquared > fullDetailDistanceSquared) {
+            return false;
+        }
+
+        remaining -= cost;
+        return true;
+    }
+}
@@ -0,0 +1,175 @@
+package net.piofox4.foxfurnace.command;
+
+import com.mojang.authlib.GameProfile;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.CommandManager;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.Text;
+import net.minecraft.util.UserCache;
+import net.minecraft.util.Util;
+import net.minecraft.util.WorldSavePath;
+import net.piofox4.foxfurnace.FoxFurnace;
+import net.piofox4.foxfurnace.util.FurnaceHotspots;
+import net.piofox4.foxfurnace.util.FurnaceStats;
+import net.piofox4.foxfurnace.util.FurnaceTier;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.UUID;
+
+public class ModCommands {
+
+    private static final int MAX_HOTSPOT_SECONDS = 600;
+    private static final int DEFAULT_HOTSPOT_TOP = 10;
+
+    private static void register(CommandDispatcher<ServerCommandSource> dispatcher) {
+        dispatcher.register(CommandManager.literal(FoxFurnace.MOD_ID)
+                .requires(source -> source.hasPermissionLevel(2))
+                .then(CommandManager.literal("stats")
+                        .executes(ModCommands::printStats)
+                        .then(CommandManager.literal("reset")
+                                .executes(ModCommands::resetStats)))
+                .then(CommandManager.literal("hotspots")
+                        .then(CommandManager.argument("seconds", IntegerArgumentType.integer(1, MAX_HOTSPOT_SECONDS))
+                                .executes(context -> startHotspots(context, DEFAULT_HOTSPOT_TOP, false))
+                                .then(CommandManager.argument("top", IntegerArgumentType.integer(1, 100))
+                                        .executes(context -> startHotspots(context, IntegerArgumentType.getInteger(context, "top"), false))
+                                        .then(CommandManager.literal("csv")
+                                                .executes(context -> startHotspots(context, IntegerArgumentType.getInteger(context, "top"), true)))))));
+    }
+
+    private static int printStats(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        double seconds = FurnaceStats.getSecondsSinceReset();
+        source.sendFeedback(() -> Text.translatable("commands.foxfurnace.stats.header",
+                format(seconds), FurnaceStats.getServerTicks()), false);
+
+        for (int row = 0; row < FurnaceStats.ROWS; row++) {
+            int current = row;
+            source.sendFeedback(() -> Text.translatable("commands.foxfurnace.stats.row",
+                    getRowName(current),
+                    format(FurnaceStats.getLoaded(current)),
+                    format(FurnaceStats.getActive(current)),
+                    FurnaceStats.getTicks(current),
+                    format(seconds > 0 ? FurnaceStats.getSmelted(current) / seconds : 0.0),
+                    FurnaceStats.getFuelConsumed(current),
+                    FurnaceStats.getRescales(current)), false);
+        }
+
+        for (FurnaceStats.HookTimer hook : FurnaceStats.HOOKS) {
+            source.sendFeedback(() -> Text.translatable("commands.foxfurnace.stats.hook",
+                    hook.getName(), hook.getMeanNanos(), hook.getP99Nanos(), hook.getSamples()), false);
+        }
+        return FurnaceStats.ROWS;
+    }
+
+    private static int resetStats(CommandContext<ServerCommandSource> context) {
+        FurnaceStats.reset();
+        context.getSource().sendFeedback(() -> Text.translatable("commands.foxfurnace.stats.reset"), true);
+        return 1;
+    }
+
+    private static int startHotspots(CommandContext<ServerCommandSource> context, int top, boolean csv) {
+        ServerCommandSource source = context.getSource();
+        int seconds = IntegerArgumentType.getInteger(context, "seconds");
+        if (!FurnaceHotspots.start(source.getServer(), seconds, report -> printHotspots(source, report, top, csv))) {
+            source.sendError(Text.translatable("commands.foxfurnace.hotspots.busy"));
+            return 0;
+        }
+        source.sendFeedback(() -> Text.translatable("commands.foxfurnace.hotspots.started", seconds), true);
+        return 1;
+    }
+
+    private static void printHotspots(ServerCommandSource source, FurnaceHotspots.Report report, int top, boolean csv) {
+        long total = Math.max(1L, report.totalNanos());
+        source.sendFeedback(() -> Text.translatable("commands.foxfurnace.hotspots.header",
+                report.seconds(), report.totalTicks(), formatMillis(report.totalNanos())), false);
+
+        source.sendFeedback(() -> Text.translatable("commands.foxfurnace.hotspots.chunks"), false);
+        for (FurnaceHotspots.ChunkCost chunk : report.chunks().subList(0, Math.min(top, report.chunks().size()))) {
+            source.sendFeedback(() -> Text.translatable("commands.foxfurnace.hotspots.chunk",
+                    chunk.dimension().getValue().toString(), chunk.chunk().x, chunk.chunk().z,
+                    formatMillis(chunk.cost().getNanos()), chunk.cost().getTicks(),
+                    format(100.0 * chunk.cost().getNanos() / total)), false);
+        }
+
+        source.sendFeedback(() -> Text.translatable("commands.foxfurnace.hotspots.owners"), false);
+        for (FurnaceHotspots.OwnerCost owner : report.owners().subList(0, Math.min(top, report.owners().size()))) {
+            String name = getOwnerName(source.getServer(), owner.owner());
+            source.sendFeedback(() -> Text.translatable("commands.foxfurnace.hotspots.owner",
+                    name == null ? Text.translatable("commands.foxfurnace.hotspots.unknown_owner") : name,
+                    formatMillis(owner.cost().getNanos()), owner.cost().getTicks(),
+                    format(100.0 * owner.cost().getNanos() / total)), false);
+        }
+
+        if (csv) {
+            writeHotspotsCsv(source, report);
+        }
+    }
+
+    /**
+     * Writes every chunk and owner of the report, not only the top ones, to a
+     * CSV file in the world folder.
+     */
+    private static void writeHotspotsCsv(ServerCommandSource source, FurnaceHotspots.Report report) {
+        MinecraftServer server = source.getServer();
+        Path path = server.getSavePath(WorldSavePath.ROOT).resolve("foxfurnace_hotspots_" + Util.getFormattedCurrentTime() + ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            writer.write("kind,dimension,chunk_x,chunk_z,owner_uuid,owner_name,ticks,nanos");
+            writer.newLine();
+            for (FurnaceHotspots.ChunkCost chunk : report.chunks()) {
+                writer.write(String.join(",", "chunk", chunk.dimension().getValue().toString(),
+                        Integer.toString(chunk.chunk().x), Integer.toString(chunk.chunk().z), "", "",
+                        Integer.toString(chunk.cost().getTicks()), Long.toString(chunk.cost().getNanos())));
+                writer.newLine();
+            }
+            for (FurnaceHotspots.OwnerCost owner : report.owners()) {
+                String name = getOwnerName(server, owner.owner());
+                writer.write(String.join(",", "owner", "", "", "",
+                        owner.owner() == null ? "" : owner.owner().toString(), name == null ? "" : name,
+                        Integer.toString(owner.cost().getTicks()), Long.toString(owner.cost().getNanos())));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            FoxFurnace.LOGGER.error("Failed to write furnace hotspots to {}", path, e);
+            source.sendError(Text.translatable("commands.foxfurnace.hotspots.csv_failed", path.getFileName().toString()));
+            return;
+        }
+        source.sendFeedback(() -> Text.translatable("commands.foxfurnace.hotspots.csv", path.getFileName().toString()), false);
+    }
+
+    @Nullable
+    private static String getOwnerName(MinecraftServer server, @Nullable UUID owner) {
+        if (owner == null) return null;
+        UserCache userCache = server.getUserCache();
+        if (userCache == null) return owner.toString();
+        return userCache.getByUuid(owner).map(GameProfile::getName).orElse(owner.toString());
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1.0e6);
+    }
+
+    private static Text getRowName(int row) {
+        if (row == FurnaceStats.VANILLA) return Text.translatable("commands.foxfurnace.stats.vanilla");
+        if (row == FurnaceStats.FOUNDRY) return Text.translatable("block.foxfurnace.foundry_controller");
+        return Text.translatable("block.foxfurnace." + FurnaceTier.VALUES[row].getName() + "_furnace");
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    public static void registerCommands() {
+        FoxFurnace.LOGGER.info("Registering Mod Commands for " + FoxFurnace.MOD_ID);
+        CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> register(dispatcher));
+    }
+}
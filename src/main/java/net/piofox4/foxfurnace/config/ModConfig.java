@@ -33,4 +33,46 @@ public class ModConfig implements ConfigData {
     @Gui.Tooltip(count = 4)
     public int minusTotalCookTimeNetherite = 160;
 
+    @Gui.Tooltip(count = 3)
+    public boolean parallelLanes = false;
+
+    @Gui.Tooltip(count = 3)
+    public boolean catchUpSmelting = true;
+
+    @ConfigEntry.BoundedDiscrete(min = 1, max = 20)
+    @Gui.Tooltip(count = 3)
+    public int farTickInterval = 1;
+
+    @ConfigEntry.BoundedDiscrete(min = 16, max = 256)
+    @Gui.Tooltip(count = 2)
+    public int farTickDistance = 64;
+
+    @ConfigEntry.BoundedDiscrete(min = 1, max = 20)
+    @Gui.Tooltip(count = 3)
+    public int comparatorUpdateInterval = 1;
+
+    @ConfigEntry.BoundedDiscrete(min = 0, max = 40)
+    @Gui.Tooltip(count = 3)
+    public int litGraceTicks = 0;
+
+    @ConfigEntry.BoundedDiscrete(min = 0, max = 9)
+    @Gui.Tooltip(count = 3)
+    public int outputBufferStacks = 0;
+
+    @ConfigEntry.BoundedDiscrete(min = 1, max = 256)
+    @Gui.Tooltip(count = 2)
+    public int foundryMaxMembers = 64;
+
+    @ConfigEntry.BoundedDiscrete(min = 0, max = 1024)
+    @Gui.Tooltip(count = 3)
+    public int furnaceEffectBudget = 128;
+
+    @ConfigEntry.BoundedDiscrete(min = 4, max = 64)
+    @Gui.Tooltip(count = 3)
+    public int furnaceEffectFullDetailDistance = 16;
+
+    @ConfigEntry.BoundedDiscrete(min = 1, max = 20)
+    @Gui.Tooltip(count = 3)
+    public int screenSyncInterval = 10;
+
 }
@@ -22,7 +22,8 @@ public class ModBlockTagProvider extends FabricTagProvider.BlockTagProvider {
                 .add(ModBlocks.GOLD_FURNACE_BLOCK)
                 .add(ModBlocks.EMERALD_FURNACE_BLOCK)
                 .add(ModBlocks.DIAMOND_FURNACE_BLOCK)
-                .add(ModBlocks.NETHERITE_FURNACE_BLOCK);
+                .add(ModBlocks.NETHERITE_FURNACE_BLOCK)
+                .add(ModBlocks.FOUNDRY_CONTROLLER_BLOCK);
 
         getOrCreateTagBuilder(BlockTags.NEEDS_STONE_TOOL)
                 .add(ModBlocks.COPPER_FURNACE_BLOCK)
@@ -31,7 +32,8 @@ public class ModBlockTagProvider extends FabricTagProvider.BlockTagProvider {
         getOrCreateTagBuilder(BlockTags.NEEDS_IRON_TOOL)
                 .add(ModBlocks.GOLD_FURNACE_BLOCK)
                 .add(ModBlocks.EMERALD_FURNACE_BLOCK)
-                .add(ModBlocks.DIAMOND_FURNACE_BLOCK);
+                .add(ModBlocks.DIAMOND_FURNACE_BLOCK)
+                .add(ModBlocks.FOUNDRY_CONTROLLER_BLOCK);
 
         getOrCreateTagBuilder(BlockTags.NEEDS_DIAMOND_TOOL)
                 .add(ModBlocks.NETHERITE_FURNACE_BLOCK);
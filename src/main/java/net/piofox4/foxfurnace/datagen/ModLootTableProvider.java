@@ -21,6 +21,7 @@ public class ModLootTableProvider extends FabricBlockLootTableProvider {
         addDrop(ModBlocks.EMERALD_FURNACE_BLOCK);
         addDrop(ModBlocks.DIAMOND_FURNACE_BLOCK);
         addDrop(ModBlocks.NETHERITE_FURNACE_BLOCK);
+        addDrop(ModBlocks.FOUNDRY_CONTROLLER_BLOCK);
     }
 
 }
@@ -95,6 +95,18 @@ public class ModRecipeProvider extends FabricRecipeProvider {
                 .criterion(hasItem(ModItems.WARDEN_HEART), conditionsFromItem(ModItems.WARDEN_HEART))
                 .offerTo(recipeExporter);
 
+        ShapedRecipeJsonBuilder.create(RecipeCategory.MISC, ModBlocks.FOUNDRY_CONTROLLER_BLOCK)
+                .pattern("IBI")
+                .pattern("BFB")
+                .pattern("IBI")
+                .input('I',Items.IRON_BLOCK)
+                .input('B',Items.BLAST_FURNACE)
+                .input('F',ModBlocks.GOLD_FURNACE_BLOCK)
+                .criterion(hasItem(Items.IRON_BLOCK), conditionsFromItem(Items.IRON_BLOCK))
+                .criterion(hasItem(Items.BLAST_FURNACE), conditionsFromItem(Items.BLAST_FURNACE))
+                .criterion(hasItem(ModBlocks.GOLD_FURNACE_BLOCK), conditionsFromItem(ModBlocks.GOLD_FURNACE_BLOCK))
+                .offerTo(recipeExporter);
+
     }
 
 }
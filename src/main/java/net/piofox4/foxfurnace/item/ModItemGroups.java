@@ -24,6 +24,7 @@ public class ModItemGroups {
                         entries.add(ModBlocks.EMERALD_FURNACE_BLOCK);
                         entries.add(ModBlocks.DIAMOND_FURNACE_BLOCK);
                         entries.add(ModBlocks.NETHERITE_FURNACE_BLOCK);
+                        entries.add(ModBlocks.FOUNDRY_CONTROLLER_BLOCK);
                     }).build());
 
     public static void registerItemGroups() {
@@ -0,0 +1,29 @@
+package net.piofox4.foxfurnace.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * New furnace settings were published, from the config or a datapack
+ * reload. The event's duration covers compiling and publishing them.
+ */
+@Name("foxfurnace.ConfigReload")
+@Label("Config Reload")
+@Category("FoxFurnace")
+@Description("FoxFurnace published new tier settings")
+@StackTrace(false)
+public class ConfigReloadEvent extends jdk.jfr.Event {
+
+    @Label("Settings Version")
+    long version;
+
+    public void complete(long version) {
+        end();
+        if (!shouldCommit()) return;
+        this.version = version;
+        commit();
+    }
+}
@@ -0,0 +1,48 @@
+package net.piofox4.foxfurnace.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.math.BlockPos;
+
+@Name("foxfurnace.CookCompletion")
+@Label("Cook Completion")
+@Category("FoxFurnace")
+@Description("A FoxFurnace furnace finished smelting an item")
+@StackTrace(false)
+public class CookCompletionEvent extends jdk.jfr.Event {
+
+    @Label("Furnace")
+    String furnace;
+
+    @Label("X")
+    int x;
+
+    @Label("Y")
+    int y;
+
+    @Label("Z")
+    int z;
+
+    @Label("Lane")
+    int lane;
+
+    @Label("Result")
+    String result;
+
+    public static void emit(String furnace, BlockPos pos, int lane, ItemStack result) {
+        CookCompletionEvent event = new CookCompletionEvent();
+        if (!event.shouldCommit()) return;
+        event.furnace = furnace;
+        event.x = pos.getX();
+        event.y = pos.getY();
+        event.z = pos.getZ();
+        event.lane = lane;
+        event.result = Registries.ITEM.getId(result.getItem()).toString();
+        event.commit();
+    }
+}
@@ -0,0 +1,52 @@
+package net.piofox4.foxfurnace.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * A furnace switched to a new cook step: a tier furnace adopting new
+ * settings, or a foundry whose members changed.
+ */
+@Name("foxfurnace.FurnaceRescale")
+@Label("Furnace Rescale")
+@Category("FoxFurnace")
+@Description("A FoxFurnace furnace changed its cook speed")
+@StackTrace(false)
+public class FurnaceRescaleEvent extends jdk.jfr.Event {
+
+    @Label("Furnace")
+    String furnace;
+
+    @Label("X")
+    int x;
+
+    @Label("Y")
+    int y;
+
+    @Label("Z")
+    int z;
+
+    @Label("Old Cook Step")
+    @Description("Cook progress per tick before the change, in millionths of a vanilla tick")
+    long oldCookStep;
+
+    @Label("New Cook Step")
+    @Description("Cook progress per tick after the change, in millionths of a vanilla tick")
+    long newCookStep;
+
+    public static void emit(String furnace, BlockPos pos, long oldCookStep, long newCookStep) {
+        FurnaceRescaleEvent event = new FurnaceRescaleEvent();
+        if (!event.shouldCommit()) return;
+        event.furnace = furnace;
+        event.x = pos.getX();
+        event.y = pos.getY();
+        event.z = pos.getZ();
+        event.oldCookStep = oldCookStep;
+        event.newCookStep = newCookStep;
+        event.commit();
+    }
+}
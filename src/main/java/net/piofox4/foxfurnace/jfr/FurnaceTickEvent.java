@@ -0,0 +1,43 @@
+package net.piofox4.foxfurnace.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import net.minecraft.util.math.BlockPos;
+import net.piofox4.foxfurnace.util.FurnaceTier;
+
+/**
+ * One tier furnace tick, recorded for the ticks {@code FurnaceStats} samples.
+ * The event's duration is the time the tick took.
+ */
+@Name("foxfurnace.FurnaceTick")
+@Label("Furnace Tick")
+@Category("FoxFurnace")
+@Description("Sampled tick of a FoxFurnace tier furnace")
+@StackTrace(false)
+public class FurnaceTickEvent extends jdk.jfr.Event {
+
+    @Label("Tier")
+    String tier;
+
+    @Label("X")
+    int x;
+
+    @Label("Y")
+    int y;
+
+    @Label("Z")
+    int z;
+
+    public void complete(FurnaceTier tier, BlockPos pos) {
+        end();
+        if (!shouldCommit()) return;
+        this.tier = tier.getName();
+        this.x = pos.getX();
+        this.y = pos.getY();
+        this.z = pos.getZ();
+        commit();
+    }
+}
@@ -0,0 +1,38 @@
+package net.piofox4.foxfurnace.mixin;
+
+import net.minecraft.block.entity.AbstractFurnaceBlockEntity;
+import net.minecraft.recipe.AbstractCookingRecipe;
+import net.minecraft.recipe.RecipeManager;
+import net.minecraft.recipe.input.SingleStackRecipeInput;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Mutable;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+@Mixin(AbstractFurnaceBlockEntity.class)
+public interface AbstractFurnaceBlockEntityAccessor {
+
+    @Accessor("burnTime")
+    int foxfurnace$getBurnTime();
+
+    @Accessor("burnTime")
+    void foxfurnace$setBurnTime(int burnTime);
+
+    @Accessor("fuelTime")
+    void foxfurnace$setFuelTime(int fuelTime);
+
+    @Accessor("cookTime")
+    int foxfurnace$getCookTime();
+
+    @Accessor("cookTime")
+    void foxfurnace$setCookTime(int cookTime);
+
+    @Accessor("cookTimeTotal")
+    int foxfurnace$getCookTimeTotal();
+
+    @Accessor("cookTimeTotal")
+    void foxfurnace$setCookTimeTotal(int cookTimeTotal);
+
+    @Mutable
+    @Accessor("matchGetter")
+    void foxfurnace$setMatchGetter(RecipeManager.MatchGetter<SingleStackRecipeInput, ? extends AbstractCookingRecipe> matchGetter);
+}
@@ -0,0 +1,21 @@
+package net.piofox4.foxfurnace.mixin;
+
+import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.structure.StructureTemplate;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+@Mixin(StructureTemplate.class)
+public class StructureTemplateMixin {
+
+    /**
+     * Saved structures are placed in other worlds and at other times, so a
+     * furnace's save time must not travel with them.
+     */
+    @ModifyExpressionValue(method = "saveFromWorld", at = @At(value = "INVOKE", target = "Lnet/minecraft/block/entity/BlockEntity;createNbtWithId(Lnet/minecraft/registry/RegistryWrapper$WrapperLookup;)Lnet/minecraft/nbt/NbtCompound;"))
+    private NbtCompound removeSaveTime(NbtCompound nbt) {
+        nbt.remove("FoxSaveTime");
+        return nbt;
+    }
+}
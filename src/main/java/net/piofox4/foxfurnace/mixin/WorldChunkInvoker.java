@@ -0,0 +1,17 @@
+package net.piofox4.foxfurnace.mixin;
+
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.WorldChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+@Mixin(WorldChunk.class)
+public interface WorldChunkInvoker {
+
+    @Invoker("updateTicker")
+    <T extends BlockEntity> void foxfurnace$updateTicker(T blockEntity);
+
+    @Invoker("removeBlockEntityTicker")
+    void foxfurnace$removeBlockEntityTicker(BlockPos pos);
+}
@@ -0,0 +1,63 @@
+package net.piofox4.foxfurnace.screen;
+
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.inventory.SimpleInventory;
+import net.minecraft.recipe.AbstractCookingRecipe;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.recipe.book.RecipeBookCategory;
+import net.minecraft.screen.AbstractFurnaceScreenHandler;
+import net.minecraft.screen.ArrayPropertyDelegate;
+import net.minecraft.screen.PropertyDelegate;
+
+/**
+ * Furnace screen of the tier furnaces and the foundry controller. The server
+ * throttles its property updates, so on the client the progress bars are
+ * extrapolated between them; vanilla furnace screens are left alone. The
+ * recipe book and shift-click rules follow the recipe type the tier cooks.
+ */
+public class FoxFurnaceScreenHandler extends AbstractFurnaceScreenHandler {
+
+    private final PropertyDelegate properties;
+    private final FurnaceProgressInterpolator progress = new FurnaceProgressInterpolator();
+
+    public FoxFurnaceScreenHandler(int syncId, PlayerInventory playerInventory, RecipeType<? extends AbstractCookingRecipe> recipeType) {
+        this(syncId, playerInventory, recipeType, new SimpleInventory(3), new ArrayPropertyDelegate(4));
+    }
+
+    public FoxFurnaceScreenHandler(int syncId, PlayerInventory playerInventory, RecipeType<? extends AbstractCookingRecipe> recipeType,
+                                   Inventory inventory, PropertyDelegate propertyDelegate) {
+        super(ModScreenHandlers.forRecipeType(recipeType), recipeType, getRecipeBookCategory(recipeType),
+                syncId, playerInventory, inventory, propertyDelegate);
+        this.properties = propertyDelegate;
+    }
+
+    private static RecipeBookCategory getRecipeBookCategory(RecipeType<?> recipeType) {
+        if (recipeType == RecipeType.BLASTING) return RecipeBookCategory.BLAST_FURNACE;
+        if (recipeType == RecipeType.SMOKING) return RecipeBookCategory.SMOKER;
+        return RecipeBookCategory.FURNACE;
+    }
+
+    @Override
+    public void setProperty(int id, int value) {
+        super.setProperty(id, value);
+        progress.onPropertyReceived(id);
+    }
+
+    /**
+     * Called by the screen once per client tick.
+     */
+    public void tickProgress() {
+        progress.tick();
+    }
+
+    @Override
+    public float getCookProgress() {
+        return progress.getCookProgress(properties);
+    }
+
+    @Override
+    public float getFuelProgress() {
+        return progress.getFuelProgress(properties);
+    }
+}
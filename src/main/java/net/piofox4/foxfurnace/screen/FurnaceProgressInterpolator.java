@@ -0,0 +1,62 @@
+package net.piofox4.foxfurnace.screen;
+
+import net.minecraft.screen.PropertyDelegate;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Fills the gaps between throttled furnace property updates on the client.
+ * The synced burn and cook times are in ticks at the furnace's own speed, so
+ * while it burns the burn time falls and the cook time rises by exactly one
+ * per tick, whatever the tier. Both are extrapolated by the client ticks the
+ * screen has seen since they arrived, at most {@value #MAX_EXTRAPOLATED_TICKS},
+ * the longest a server waits between updates. The screen does not tick while
+ * the game is paused, so neither does the extrapolation.
+ */
+public class FurnaceProgressInterpolator {
+
+    private static final int BURN_TIME = 0;
+    private static final int FUEL_TIME = 1;
+    private static final int COOK_TIME = 2;
+    private static final int COOK_TIME_TOTAL = 3;
+    private static final int MAX_EXTRAPOLATED_TICKS = 20;
+
+    /** Client ticks since each property was last received. */
+    private final int[] ticksSinceUpdate = new int[4];
+
+    public void onPropertyReceived(int index) {
+        if (index >= 0 && index < ticksSinceUpdate.length) {
+            ticksSinceUpdate[index] = 0;
+        }
+    }
+
+    public void tick() {
+        for (int index = 0; index < ticksSinceUpdate.length; index++) {
+            if (ticksSinceUpdate[index] < MAX_EXTRAPOLATED_TICKS) {
+                ticksSinceUpdate[index]++;
+            }
+        }
+    }
+
+    public float getCookProgress(PropertyDelegate properties) {
+        int cookTime = properties.get(COOK_TIME);
+        int cookTimeTotal = properties.get(COOK_TIME_TOTAL);
+        if (cookTimeTotal == 0 || cookTime == 0) return 0.0F;
+
+        int shown = cookTime;
+        if (properties.get(BURN_TIME) > 0) {
+            shown += ticksSinceUpdate[COOK_TIME];
+        }
+        return MathHelper.clamp((float) shown / cookTimeTotal, 0.0F, 1.0F);
+    }
+
+    public float getFuelProgress(PropertyDelegate properties) {
+        int fuelTime = properties.get(FUEL_TIME);
+        if (fuelTime == 0) {
+            fuelTime = 200;
+        }
+
+        int burnTime = properties.get(BURN_TIME);
+        int shown = burnTime > 0 ? Math.max(0, burnTime - ticksSinceUpdate[BURN_TIME]) : burnTime;
+        return MathHelper.clamp((float) shown / fuelTime, 0.0F, 1.0F);
+    }
+}
@@ -0,0 +1,37 @@
+package net.piofox4.foxfurnace.screen;
+
+import net.minecraft.recipe.AbstractCookingRecipe;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.Registry;
+import net.minecraft.resource.featuretoggle.FeatureFlags;
+import net.minecraft.screen.ScreenHandlerType;
+import net.minecraft.util.Identifier;
+import net.piofox4.foxfurnace.FoxFurnace;
+
+/**
+ * One handler type per recipe type a tier can cook, so the client builds its
+ * handler, recipe book and shift-click rules for the same type as the server.
+ */
+public class ModScreenHandlers {
+
+    public static final ScreenHandlerType<FoxFurnaceScreenHandler> FOX_FURNACE = register("furnace", RecipeType.SMELTING);
+    public static final ScreenHandlerType<FoxFurnaceScreenHandler> FOX_BLAST_FURNACE = register("blast_furnace", RecipeType.BLASTING);
+    public static final ScreenHandlerType<FoxFurnaceScreenHandler> FOX_SMOKER = register("smoker", RecipeType.SMOKING);
+
+    private static ScreenHandlerType<FoxFurnaceScreenHandler> register(String name, RecipeType<? extends AbstractCookingRecipe> recipeType) {
+        return Registry.register(Registries.SCREEN_HANDLER, Identifier.of(FoxFurnace.MOD_ID, name),
+                new ScreenHandlerType<>((syncId, playerInventory) -> new FoxFurnaceScreenHandler(syncId, playerInventory, recipeType),
+                        FeatureFlags.VANILLA_FEATURES));
+    }
+
+    public static ScreenHandlerType<FoxFurnaceScreenHandler> forRecipeType(RecipeType<?> recipeType) {
+        if (recipeType == RecipeType.BLASTING) return FOX_BLAST_FURNACE;
+        if (recipeType == RecipeType.SMOKING) return FOX_SMOKER;
+        return FOX_FURNACE;
+    }
+
+    public static void registerScreenHandlers() {
+        FoxFurnace.LOGGER.info("Registering Mod Screen Handlers for " + FoxFurnace.MOD_ID);
+    }
+}
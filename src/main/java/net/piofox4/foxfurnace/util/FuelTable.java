@@ -0,0 +1,110 @@
+package net.piofox4.foxfurnace.util;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import net.minecraft.block.entity.AbstractFurnaceBlockEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fuel burn times keyed by raw item id, copied from the vanilla fuel map
+ * (which includes everything registered through Fabric's fuel registry).
+ * Next to the base times in ticks it holds, per tier, the burn energy of each
+ * fuel at that tier's fuel scale, so lighting a fuel is one lookup with no
+ * boxing and no float arithmetic.
+ * <p>
+ * The table is rebuilt when tags are reloaded or new settings are published,
+ * never from a furnace tick. New settings only recompute the tier energies;
+ * the vanilla fuel map is read again only when tags change.
+ */
+public final class FuelTable {
+
+    /**
+     * Swapped whole, never modified, so a tag reload and a settings publish on
+     * different threads cannot lose each other's update.
+     */
+    private static final AtomicReference<FuelTable> CURRENT = new AtomicReference<>();
+
+    private final FurnaceTierSettings settings;
+    private final Int2IntOpenHashMap baseTimes;
+    private final Int2LongOpenHashMap[] tierEnergies;
+
+    private FuelTable(FurnaceTierSettings settings, Int2IntOpenHashMap baseTimes) {
+        this.settings = settings;
+        this.baseTimes = baseTimes;
+        this.tierEnergies = new Int2LongOpenHashMap[FurnaceTier.VALUES.length];
+        for (FurnaceTier tier : FurnaceTier.VALUES) {
+            long fuelScale = settings.getFuelScale(tier);
+            Int2LongOpenHashMap energies = new Int2LongOpenHashMap(baseTimes.size());
+            baseTimes.int2IntEntrySet().fastForEach(entry -> energies.put(entry.getIntKey(), entry.getIntValue() * fuelScale));
+            tierEnergies[tier.getId()] = energies;
+        }
+    }
+
+    /**
+     * The current table. The first settings are published during mod
+     * initialization, so there always is one by the time a furnace asks.
+     */
+    public static FuelTable get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Reads the vanilla fuel map again, for when tags were reloaded.
+     */
+    public static void rebuild() {
+        CURRENT.set(new FuelTable(FurnaceSpeedManager.getSettings(), readBaseTimes()));
+        // Settings published while the map was read went to the old table.
+        onSettingsPublished(FurnaceSpeedManager.getSettings());
+    }
+
+    /**
+     * Recomputes the tier energies for newly published settings. A table
+     * already on these or newer settings is kept.
+     */
+    public static void onSettingsPublished(FurnaceTierSettings settings) {
+        CURRENT.updateAndGet(table -> {
+            if (table == null) return new FuelTable(settings, readBaseTimes());
+            if (table.settings.getVersion() >= settings.getVersion()) return table;
+            return new FuelTable(settings, table.baseTimes);
+        });
+    }
+
+    private static Int2IntOpenHashMap readBaseTimes() {
+        Map<Item, Integer> fuelTimes = AbstractFurnaceBlockEntity.createFuelTimeMap();
+        Int2IntOpenHashMap baseTimes = new Int2IntOpenHashMap(fuelTimes.size());
+        fuelTimes.forEach((item, time) -> {
+            if (time > 0) baseTimes.put(Item.getRawId(item), time.intValue());
+        });
+        return baseTimes;
+    }
+
+    public boolean isFuel(ItemStack stack) {
+        return baseTimes.containsKey(Item.getRawId(stack.getItem()));
+    }
+
+    /**
+     * Burn time of the stack in vanilla ticks, or 0 if it is not a fuel.
+     */
+    public int getBaseFuelTime(ItemStack stack) {
+        if (stack.isEmpty()) return 0;
+        return baseTimes.get(Item.getRawId(stack.getItem()));
+    }
+
+    /**
+     * Burn energy of the stack for a furnace of the given tier, in the same
+     * fixed-point units as its cook step. A furnace still on an older settings
+     * snapshot gets the energy computed from that snapshot instead.
+     */
+    public long getBurnEnergy(FurnaceTierSettings settings, FurnaceTier tier, ItemStack stack) {
+        if (stack.isEmpty()) return 0L;
+        int rawId = Item.getRawId(stack.getItem());
+        if (settings == this.settings) {
+            return tierEnergies[tier.getId()].get(rawId);
+        }
+        return baseTimes.get(rawId) * settings.getFuelScale(tier);
+    }
+}
@@ -0,0 +1,136 @@
+package net.piofox4.foxfurnace.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Records the time spent in every tier furnace tick during a window started
+ * by {@code /foxfurnace hotspots}, summed per chunk and per placing player.
+ * Only touched from the server thread. While no window is open, the tick
+ * pays a single field read.
+ */
+public final class FurnaceHotspots {
+
+    @Nullable
+    private static Recording recording;
+
+    private FurnaceHotspots() {
+    }
+
+    /** Summed tick time and tick count of one chunk or owner. */
+    public static final class Cost {
+
+        private long nanos;
+        private int ticks;
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public int getTicks() {
+            return ticks;
+        }
+
+        private void add(long elapsed) {
+            nanos += elapsed;
+            ticks++;
+        }
+    }
+
+    public record ChunkCost(RegistryKey<World> dimension, ChunkPos chunk, Cost cost) {
+    }
+
+    public record OwnerCost(@Nullable UUID owner, Cost cost) {
+    }
+
+    /** The finished window, ranked from the most expensive down. */
+    public record Report(int seconds, long totalNanos, long totalTicks, List<ChunkCost> chunks, List<OwnerCost> owners) {
+    }
+
+    private static final class Recording {
+
+        private final int seconds;
+        private final long endTick;
+        private final Consumer<Report> onFinished;
+        private final Map<RegistryKey<World>, Long2ObjectOpenHashMap<Cost>> chunks = new IdentityHashMap<>();
+        private final Map<UUID, Cost> owners = new HashMap<>();
+        private long totalNanos;
+        private long totalTicks;
+
+        private Recording(int seconds, long endTick, Consumer<Report> onFinished) {
+            this.seconds = seconds;
+            this.endTick = endTick;
+            this.onFinished = onFinished;
+        }
+
+        private Report toReport() {
+            List<ChunkCost> chunkCosts = new ArrayList<>();
+            chunks.forEach((dimension, costs) -> costs.long2ObjectEntrySet().fastForEach(entry ->
+                    chunkCosts.add(new ChunkCost(dimension, new ChunkPos(entry.getLongKey()), entry.getValue()))));
+            chunkCosts.sort(Comparator.comparingLong((ChunkCost chunk) -> chunk.cost().getNanos()).reversed());
+
+            List<OwnerCost> ownerCosts = new ArrayList<>();
+            owners.forEach((owner, cost) -> ownerCosts.add(new OwnerCost(owner, cost)));
+            ownerCosts.sort(Comparator.comparingLong((OwnerCost owner) -> owner.cost().getNanos()).reversed());
+            return new Report(seconds, totalNanos, totalTicks, chunkCosts, ownerCosts);
+        }
+    }
+
+    public static boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * Opens a window of {@code seconds}; {@code onFinished} gets the report
+     * on the server thread when it closes. Returns false if a window is
+     * already open.
+     */
+    public static boolean start(MinecraftServer server, int seconds, Consumer<Report> onFinished) {
+        if (recording != null) return false;
+        recording = new Recording(seconds, server.getTicks() + seconds * 20L, onFinished);
+        return true;
+    }
+
+    public static void record(World world, BlockPos pos, @Nullable UUID owner, long elapsed) {
+        Recording current = recording;
+        if (current == null) return;
+
+        Long2ObjectOpenHashMap<Cost> chunks = current.chunks.computeIfAbsent(world.getRegistryKey(), dimension -> new Long2ObjectOpenHashMap<>());
+        long chunk = ChunkPos.toLong(pos);
+        Cost cost = chunks.get(chunk);
+        if (cost == null) {
+            cost = new Cost();
+            chunks.put(chunk, cost);
+        }
+        cost.add(elapsed);
+        current.owners.computeIfAbsent(owner, key -> new Cost()).add(elapsed);
+        current.totalNanos += elapsed;
+        current.totalTicks++;
+    }
+
+    public static void onServerTick(MinecraftServer server) {
+        Recording current = recording;
+        if (current == null || server.getTicks() < current.endTick) return;
+
+        recording = null;
+        current.onFinished.accept(current.toReport());
+    }
+
+    public static void cancel() {
+        recording = null;
+    }
+}
@@ -1,80 +1,63 @@
 package net.piofox4.foxfurnace.util;
 
 import net.minecraft.block.entity.AbstractFurnaceBlockEntity;
-import net.minecraft.registry.Registries;
-import net.minecraft.util.Identifier;
+import net.piofox4.foxfurnace.block.entity.FoxFurnaceBlockEntity;
+import net.piofox4.foxfurnace.config.ModConfig;
+import net.piofox4.foxfurnace.jfr.ConfigReloadEvent;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class FurnaceSpeedManager {
-    private static Map<String, Integer> FURNACE_SPEED_MAP = null;
 
-    private static void initializeFurnaceSpeedMap() {
-        if (FURNACE_SPEED_MAP == null) {
-            FURNACE_SPEED_MAP = new HashMap<>();
-        }
-        FURNACE_SPEED_MAP.put("copper", Ref.minusTotalCookTimeCopper);
-        FURNACE_SPEED_MAP.put("iron", Ref.minusTotalCookTimeIron);
-        FURNACE_SPEED_MAP.put("gold", Ref.minusTotalCookTimeGold);
-        FURNACE_SPEED_MAP.put("emerald", Ref.minusTotalCookTimeEmerald);
-        FURNACE_SPEED_MAP.put("diamond", Ref.minusTotalCookTimeDiamond);
-        FURNACE_SPEED_MAP.put("netherite", Ref.minusTotalCookTimeNetherite);
+    /**
+     * Fixed-point unit for cook progress and burn time: one vanilla tick of
+     * smelting. Decimal, so configured multipliers such as 1.37x are exact.
+     */
+    public static final long PROGRESS_SCALE = 1_000_000L;
+
+    private static final AtomicReference<FurnaceTierSettings> SETTINGS = new AtomicReference<>(FurnaceTierSettings.EMPTY);
+
+    private static volatile Map<FurnaceTier, FurnaceTierDefinition> tierDefinitions = Map.of();
+
+    public static FurnaceTierSettings publish(ModConfig config) {
+        ConfigReloadEvent event = new ConfigReloadEvent();
+        event.begin();
+        Map<FurnaceTier, FurnaceTierDefinition> definitions = tierDefinitions;
+        FurnaceTierSettings settings = SETTINGS.updateAndGet(previous -> FurnaceTierSettings.compile(previous.getVersion() + 1, config, definitions));
+        SmeltIndex.onSettingsPublished(settings);
+        FuelTable.onSettingsPublished(settings);
+        event.complete(settings.getVersion());
+        return settings;
     }
 
-    public static void resetFurnaceSpeedMap() {
-        FURNACE_SPEED_MAP = null;
-    }
-    public static void updateFurnaceSpeedMap() {
-        resetFurnaceSpeedMap();
-        initializeFurnaceSpeedMap();
+    public static FurnaceTierSettings publish(Map<FurnaceTier, FurnaceTierDefinition> definitions) {
+        tierDefinitions = Map.copyOf(definitions);
+        return publish(Ref.config);
     }
 
-    public static void forceUpdate() {
-        updateFurnaceSpeedMap();
+    public static FurnaceTierSettings getSettings() {
+        return SETTINGS.get();
     }
 
     public static int getFurnaceSpeedReduction(AbstractFurnaceBlockEntity blockEntity) {
-        initializeFurnaceSpeedMap();
-
-        if (blockEntity == null) return 0;
-
-        Identifier blockId = Registries.BLOCK_ENTITY_TYPE.getId(blockEntity.getType());
-        if (blockId == null) return 0;
-
-        String blockIdString = blockId.toString().toLowerCase();
-
-        for (Map.Entry<String, Integer> entry : FURNACE_SPEED_MAP.entrySet()) {
-            if (blockIdString.contains(entry.getKey())) {
-                return entry.getValue();
-            }
+        if (blockEntity instanceof FoxFurnaceBlockEntity foxFurnace) {
+            return foxFurnace.getSettings().getCookTimeReduction(foxFurnace.getTier());
         }
-
         return 0;
     }
 
     public static int getAdjustedCookTime(int originalCookTime, AbstractFurnaceBlockEntity blockEntity) {
-        int reduction = getFurnaceSpeedReduction(blockEntity);
-        if (reduction > 0) {
-            int newCookTime = originalCookTime - reduction;
-            return Math.max(1, newCookTime);
-        }
-        return originalCookTime;
-    }
-
-    public static int getAdjustedFuelTime(int originalFuelTime, AbstractFurnaceBlockEntity blockEntity) {
-        int reduction = getFurnaceSpeedReduction(blockEntity);
+        if (!(blockEntity instanceof FoxFurnaceBlockEntity foxFurnace)) return originalCookTime;
 
-        if (reduction > 0) {
-            int originalCookTime = 200;
-            int reducedCookTime = originalCookTime - reduction;
-
-            if (reducedCookTime > 0) {
-                float reductionFactor = (float) reducedCookTime / originalCookTime;
-                return Math.max(1, Math.round(originalFuelTime * reductionFactor));
-            }
-        }
+        return getAdjustedCookTime(originalCookTime, foxFurnace.getSettings().getCookStep(foxFurnace.getTier()));
+    }
 
-        return originalFuelTime;
+    /**
+     * Ticks a recipe of {@code originalCookTime} vanilla ticks takes at the
+     * given cook step, rounded up so the furnace never finishes early.
+     */
+    public static int getAdjustedCookTime(int originalCookTime, long cookStep) {
+        return (int) Math.max(1, Math.ceilDiv(originalCookTime * PROGRESS_SCALE, cookStep));
     }
-}
\ No newline at end of file
+}
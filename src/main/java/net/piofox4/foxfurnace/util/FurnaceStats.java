@@ -0,0 +1,204 @@
+package net.piofox4.foxfurnace.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Always-on counters behind {@code /foxfurnace stats}. One row per tier, plus
+ * one for foundry controllers and one for vanilla furnaces. Counting is a
+ * striped {@link LongAdder} increment, and the mixin hooks are timed on one
+ * call out of {@value HookTimer#SAMPLE_INTERVAL}, so the counters can stay on
+ * in production.
+ */
+public final class FurnaceStats {
+
+    public static final int FOUNDRY = FurnaceTier.VALUES.length;
+    public static final int VANILLA = FOUNDRY + 1;
+    public static final int ROWS = VANILLA + 1;
+
+    public static final HookTimer TICK = new HookTimer("tick");
+    public static final HookTimer GET_COOK_TIME = new HookTimer("getCookTime");
+    public static final HookTimer SET_STACK = new HookTimer("setStack");
+    public static final HookTimer[] HOOKS = {TICK, GET_COOK_TIME, SET_STACK};
+
+    /** Loaded block entities. Only kept for our own block entities; never reset. */
+    private static final LongAdder[] LOADED = createAdders();
+    private static final LongAdder[] TICKS = createAdders();
+    private static final LongAdder[] BURNING_TICKS = createAdders();
+    private static final LongAdder[] SMELTED = createAdders();
+    private static final LongAdder[] FUEL_CONSUMED = createAdders();
+    private static final LongAdder[] RESCALES = createAdders();
+    private static final LongAdder SERVER_TICKS = new LongAdder();
+
+    private static volatile long resetTime = System.nanoTime();
+
+    private FurnaceStats() {
+    }
+
+    private static LongAdder[] createAdders() {
+        LongAdder[] adders = new LongAdder[ROWS];
+        for (int row = 0; row < ROWS; row++) {
+            adders[row] = new LongAdder();
+        }
+        return adders;
+    }
+
+    public static void onLoaded(int row) {
+        LOADED[row].increment();
+    }
+
+    public static void onUnloaded(int row) {
+        LOADED[row].decrement();
+    }
+
+    public static void onTick(int row, boolean burning) {
+        TICKS[row].increment();
+        if (burning) {
+            BURNING_TICKS[row].increment();
+        }
+    }
+
+    public static void onSmelted(int row) {
+        SMELTED[row].increment();
+    }
+
+    public static void onFuelConsumed(int row) {
+        FUEL_CONSUMED[row].increment();
+    }
+
+    /**
+     * A block entity adopted a new cook step: new settings for a tier furnace,
+     * a member rescan for a foundry.
+     */
+    public static void onRescale(int row) {
+        RESCALES[row].increment();
+    }
+
+    public static void onServerTick() {
+        SERVER_TICKS.increment();
+    }
+
+    public static void reset() {
+        for (int row = 0; row < ROWS; row++) {
+            TICKS[row].reset();
+            BURNING_TICKS[row].reset();
+            SMELTED[row].reset();
+            FUEL_CONSUMED[row].reset();
+            RESCALES[row].reset();
+        }
+        SERVER_TICKS.reset();
+        for (HookTimer hook : HOOKS) {
+            hook.reset();
+        }
+        resetTime = System.nanoTime();
+    }
+
+    public static double getSecondsSinceReset() {
+        return (System.nanoTime() - resetTime) / 1.0e9;
+    }
+
+    public static long getServerTicks() {
+        return SERVER_TICKS.sum();
+    }
+
+    /**
+     * Loaded block entities. Vanilla furnaces are not tracked and tick every
+     * tick while loaded, so for them this is the average number ticking.
+     */
+    public static double getLoaded(int row) {
+        if (row == VANILLA) {
+            long serverTicks = getServerTicks();
+            return serverTicks == 0 ? 0.0 : (double) TICKS[row].sum() / serverTicks;
+        }
+        return LOADED[row].sum();
+    }
+
+    /** Average number of lit block entities per server tick. */
+    public static double getActive(int row) {
+        long serverTicks = getServerTicks();
+        return serverTicks == 0 ? 0.0 : (double) BURNING_TICKS[row].sum() / serverTicks;
+    }
+
+    public static long getTicks(int row) {
+        return TICKS[row].sum();
+    }
+
+    public static long getSmelted(int row) {
+        return SMELTED[row].sum();
+    }
+
+    public static long getFuelConsumed(int row) {
+        return FUEL_CONSUMED[row].sum();
+    }
+
+    public static long getRescales(int row) {
+        return RESCALES[row].sum();
+    }
+
+    /**
+     * Sampled timer around a hot hook. {@link #start()} reads the clock on one
+     * call in {@value #SAMPLE_INTERVAL} and the last {@value #RESERVOIR_SIZE}
+     * samples are kept for the p99. The call counter is a plain field: a lost
+     * increment from another thread only shifts which call gets sampled.
+     */
+    public static final class HookTimer {
+
+        public static final int SAMPLE_INTERVAL = 64;
+        private static final int RESERVOIR_SIZE = 1024;
+        private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+        private final String name;
+        private final long[] reservoir = new long[RESERVOIR_SIZE];
+        private final AtomicInteger samples = new AtomicInteger();
+        private final LongAdder totalNanos = new LongAdder();
+        private int calls;
+
+        private HookTimer(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long start() {
+            if (++calls % SAMPLE_INTERVAL != 0) return NOT_SAMPLED;
+            return System.nanoTime();
+        }
+
+        public static boolean isSampled(long start) {
+            return start != NOT_SAMPLED;
+        }
+
+        public void stop(long start) {
+            if (start == NOT_SAMPLED) return;
+            long elapsed = System.nanoTime() - start;
+            int sample = samples.getAndIncrement();
+            reservoir[sample & (RESERVOIR_SIZE - 1)] = elapsed;
+            totalNanos.add(elapsed);
+        }
+
+        public int getSamples() {
+            return samples.get();
+        }
+
+        public long getMeanNanos() {
+            int count = samples.get();
+            return count == 0 ? 0L : totalNanos.sum() / count;
+        }
+
+        public long getP99Nanos() {
+            int count = Math.min(samples.get(), RESERVOIR_SIZE);
+            if (count == 0) return 0L;
+            long[] sorted = Arrays.copyOf(reservoir, count);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.ceil(count * 0.99) - 1];
+        }
+
+        private void reset() {
+            samples.set(0);
+            totalNanos.reset();
+        }
+    }
+}
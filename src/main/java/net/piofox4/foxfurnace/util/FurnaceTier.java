@@ -0,0 +1,66 @@
+package net.piofox4.foxfurnace.util;
+
+import net.piofox4.foxfurnace.config.ModConfig;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.function.ToIntFunction;
+
+public enum FurnaceTier {
+    COPPER(1, config -> config.minusTotalCookTimeCopper),
+    IRON(1, config -> config.minusTotalCookTimeIron),
+    GOLD(1, config -> config.minusTotalCookTimeGold),
+    EMERALD(2, config -> config.minusTotalCookTimeEmerald),
+    DIAMOND(3, config -> config.minusTotalCookTimeDiamond),
+    NETHERITE(4, config -> config.minusTotalCookTimeNetherite);
+
+    public static final FurnaceTier[] VALUES = values();
+
+    private final String name;
+    private final int maxLanes;
+    private final ToIntFunction<ModConfig> configCookTimeReduction;
+
+    FurnaceTier(int maxLanes, ToIntFunction<ModConfig> configCookTimeReduction) {
+        this.name = name().toLowerCase(Locale.ROOT);
+        this.maxLanes = maxLanes;
+        this.configCookTimeReduction = configCookTimeReduction;
+    }
+
+    public int getId() {
+        return ordinal();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Number of input/output lane pairs the block entity inventory is sized
+     * for. How many of them actually smelt is decided by the tier settings.
+     */
+    public int getMaxLanes() {
+        return maxLanes;
+    }
+
+    /**
+     * Whether the block entity keeps an output buffer behind its output slots.
+     * Only the multi-lane tiers are fast enough to need one.
+     */
+    public boolean hasOutputBuffer() {
+        return maxLanes > 1;
+    }
+
+    public int getConfigCookTimeReduction(ModConfig config) {
+        return configCookTimeReduction.applyAsInt(config);
+    }
+
+    @Nullable
+    public static FurnaceTier byName(String name) {
+        for (FurnaceTier tier : VALUES) {
+            if (tier.name.equals(name)) {
+                return tier;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,29 @@
+package net.piofox4.foxfurnace.util;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.dynamic.Codecs;
+
+import java.util.Optional;
+
+/**
+ * A tier entry as read from {@code data/foxfurnace/furnace_tier/<tier>.json}.
+ * Fields left out of the file fall back to the config (cook time reduction,
+ * lanes) or to vanilla behaviour (fuel factor 1.0, smelting recipes).
+ * {@code speed} is a plain multiplier over vanilla and wins over
+ * {@code cook_time_reduction} when both are given.
+ */
+public record FurnaceTierDefinition(Optional<Integer> cookTimeReduction, Optional<Float> speed, float fuelFactor,
+                                    Identifier recipeType, Optional<Integer> lanes) {
+
+    public static final Identifier DEFAULT_RECIPE_TYPE = Identifier.ofVanilla("smelting");
+
+    public static final Codec<FurnaceTierDefinition> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.intRange(0, 199).optionalFieldOf("cook_time_reduction").forGetter(FurnaceTierDefinition::cookTimeReduction),
+            Codecs.POSITIVE_FLOAT.optionalFieldOf("speed").forGetter(FurnaceTierDefinition::speed),
+            Codecs.POSITIVE_FLOAT.optionalFieldOf("fuel_factor", 1.0F).forGetter(FurnaceTierDefinition::fuelFactor),
+            Identifier.CODEC.optionalFieldOf("recipe_type", DEFAULT_RECIPE_TYPE).forGetter(FurnaceTierDefinition::recipeType),
+            Codec.intRange(1, 4).optionalFieldOf("lanes").forGetter(FurnaceTierDefinition::lanes)
+    ).apply(instance, FurnaceTierDefinition::new));
+}
@@ -0,0 +1,53 @@
+package net.piofox4.foxfurnace.util;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.mojang.serialization.JsonOps;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceFinder;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import net.piofox4.foxfurnace.FoxFurnace;
+
+import java.io.Reader;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class FurnaceTierLoader implements SimpleSynchronousResourceReloadListener {
+
+    private static final Identifier ID = Identifier.of(FoxFurnace.MOD_ID, "furnace_tiers");
+    private static final ResourceFinder FINDER = ResourceFinder.json("furnace_tier");
+
+    @Override
+    public Identifier getFabricId() {
+        return ID;
+    }
+
+    @Override
+    public void reload(ResourceManager manager) {
+        Map<FurnaceTier, FurnaceTierDefinition> definitions = new EnumMap<>(FurnaceTier.class);
+
+        for (Map.Entry<Identifier, Resource> entry : FINDER.findResources(manager).entrySet()) {
+            Identifier id = FINDER.toResourceId(entry.getKey());
+            if (!FoxFurnace.MOD_ID.equals(id.getNamespace())) continue;
+
+            FurnaceTier tier = FurnaceTier.byName(id.getPath());
+            if (tier == null) {
+                FoxFurnace.LOGGER.warn("Ignoring furnace tier {}: no furnace with that tier exists", id);
+                continue;
+            }
+
+            try (Reader reader = entry.getValue().getReader()) {
+                JsonElement json = JsonParser.parseReader(reader);
+                FurnaceTierDefinition.CODEC.parse(JsonOps.INSTANCE, json)
+                        .resultOrPartial(error -> FoxFurnace.LOGGER.error("Couldn't parse furnace tier {}: {}", id, error))
+                        .ifPresent(definition -> definitions.put(tier, definition));
+            } catch (Exception e) {
+                FoxFurnace.LOGGER.error("Couldn't read furnace tier {}", id, e);
+            }
+        }
+
+        FurnaceSpeedManager.publish(definitions);
+    }
+}
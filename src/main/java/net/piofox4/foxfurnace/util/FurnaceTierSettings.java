@@ -0,0 +1,143 @@
+package net.piofox4.foxfurnace.util;
+
+import net.minecraft.recipe.AbstractCookingRecipe;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+import net.piofox4.foxfurnace.FoxFurnace;
+import net.piofox4.foxfurnace.config.ModConfig;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable, versioned view of the per-tier furnace settings.
+ * A new instance is published as a whole whenever the config or the
+ * datapack tier definitions change, so readers on the server thread never
+ * observe a partially updated table.
+ */
+public final class FurnaceTierSettings {
+
+    private static final long DEFAULT_COOK_TIME = 200;
+
+    public static final FurnaceTierSettings EMPTY = createEmpty();
+
+    private final long version;
+    private final int[] cookTimeReductions;
+    private final long[] cookSteps;
+    private final long[] fuelScales;
+    private final RecipeType<? extends AbstractCookingRecipe>[] recipeTypes;
+    private final int[] lanes;
+
+    private FurnaceTierSettings(long version, int[] cookTimeReductions, long[] cookSteps, long[] fuelScales,
+                                RecipeType<? extends AbstractCookingRecipe>[] recipeTypes, int[] lanes) {
+        this.version = version;
+        this.cookTimeReductions = cookTimeReductions;
+        this.cookSteps = cookSteps;
+        this.fuelScales = fuelScales;
+        this.recipeTypes = recipeTypes;
+        this.lanes = lanes;
+    }
+
+    private static FurnaceTierSettings createEmpty() {
+        long[] cookSteps = new long[FurnaceTier.VALUES.length];
+        Arrays.fill(cookSteps, FurnaceSpeedManager.PROGRESS_SCALE);
+        long[] fuelScales = new long[FurnaceTier.VALUES.length];
+        Arrays.fill(fuelScales, FurnaceSpeedManager.PROGRESS_SCALE);
+        RecipeType<? extends AbstractCookingRecipe>[] recipeTypes = newRecipeTypeArray();
+        Arrays.fill(recipeTypes, RecipeType.SMELTING);
+        int[] lanes = new int[FurnaceTier.VALUES.length];
+        Arrays.fill(lanes, 1);
+        return new FurnaceTierSettings(0L, new int[FurnaceTier.VALUES.length], cookSteps, fuelScales, recipeTypes, lanes);
+    }
+
+    public static FurnaceTierSettings compile(long version, ModConfig config, Map<FurnaceTier, FurnaceTierDefinition> definitions) {
+        int[] reductions = new int[FurnaceTier.VALUES.length];
+        long[] cookSteps = new long[FurnaceTier.VALUES.length];
+        long[] fuelScales = new long[FurnaceTier.VALUES.length];
+        RecipeType<? extends AbstractCookingRecipe>[] recipeTypes = newRecipeTypeArray();
+        int[] lanes = new int[FurnaceTier.VALUES.length];
+
+        for (FurnaceTier tier : FurnaceTier.VALUES) {
+            FurnaceTierDefinition definition = definitions.get(tier);
+            int id = tier.getId();
+            int configLanes = config.parallelLanes ? tier.getMaxLanes() : 1;
+            if (definition == null) {
+                reductions[id] = tier.getConfigCookTimeReduction(config);
+                cookSteps[id] = cookStepFromReduction(reductions[id]);
+                fuelScales[id] = FurnaceSpeedManager.PROGRESS_SCALE;
+                recipeTypes[id] = RecipeType.SMELTING;
+                lanes[id] = configLanes;
+            } else {
+                reductions[id] = definition.cookTimeReduction().orElseGet(() -> tier.getConfigCookTimeReduction(config));
+                cookSteps[id] = definition.speed()
+                        .map(speed -> Math.max(1L, Math.round(speed * (double) FurnaceSpeedManager.PROGRESS_SCALE)))
+                        .orElseGet(() -> cookStepFromReduction(reductions[id]));
+                fuelScales[id] = Math.max(1L, Math.round(definition.fuelFactor() * (double) FurnaceSpeedManager.PROGRESS_SCALE));
+                recipeTypes[id] = resolveRecipeType(tier, definition.recipeType());
+                lanes[id] = Math.min(definition.lanes().orElse(configLanes), tier.getMaxLanes());
+            }
+        }
+
+        return new FurnaceTierSettings(version, reductions, cookSteps, fuelScales, recipeTypes, lanes);
+    }
+
+    /**
+     * A reduction of {@code r} ticks turns the vanilla 200 tick recipe into a
+     * {@code 200 - r} tick one, i.e. a speed of {@code 200 / (200 - r)}.
+     * Rounded up, so the recipe finishes in exactly {@code 200 - r} ticks
+     * rather than one late.
+     */
+    public static long cookStepFromReduction(int reduction) {
+        long cookTime = DEFAULT_COOK_TIME - reduction;
+        return Math.ceilDiv(DEFAULT_COOK_TIME * FurnaceSpeedManager.PROGRESS_SCALE, cookTime);
+    }
+
+    private static RecipeType<? extends AbstractCookingRecipe> resolveRecipeType(FurnaceTier tier, Identifier id) {
+        RecipeType<?> recipeType = Registries.RECIPE_TYPE.get(id);
+        if (recipeType == RecipeType.SMELTING || recipeType == RecipeType.BLASTING || recipeType == RecipeType.SMOKING) {
+            @SuppressWarnings("unchecked")
+            RecipeType<? extends AbstractCookingRecipe> cookingType = (RecipeType<? extends AbstractCookingRecipe>) recipeType;
+            return cookingType;
+        }
+        FoxFurnace.LOGGER.warn("Furnace tier {} uses unsupported recipe type {}, falling back to smelting", tier.getName(), id);
+        return RecipeType.SMELTING;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RecipeType<? extends AbstractCookingRecipe>[] newRecipeTypeArray() {
+        return (RecipeType<? extends AbstractCookingRecipe>[]) new RecipeType<?>[FurnaceTier.VALUES.length];
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getCookTimeReduction(FurnaceTier tier) {
+        return cookTimeReductions[tier.getId()];
+    }
+
+    /**
+     * Cook progress gained per tick, in units of {@link FurnaceSpeedManager#PROGRESS_SCALE}
+     * per vanilla tick. Fuel burns down at the same rate.
+     */
+    public long getCookStep(FurnaceTier tier) {
+        return cookSteps[tier.getId()];
+    }
+
+    /**
+     * Burn energy per vanilla fuel tick, in the same fixed-point units as the
+     * cook step. Equal to the scale unless the tier has a fuel factor.
+     */
+    public long getFuelScale(FurnaceTier tier) {
+        return fuelScales[tier.getId()];
+    }
+
+    public RecipeType<? extends AbstractCookingRecipe> getRecipeType(FurnaceTier tier) {
+        return recipeTypes[tier.getId()];
+    }
+
+    public int getLanes(FurnaceTier tier) {
+        return lanes[tier.getId()];
+    }
+}
@@ -0,0 +1,47 @@
+package net.piofox4.foxfurnace.util;
+
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+
+import java.util.Locale;
+
+/**
+ * Speed tooltip line of each tier, built once per settings snapshot.
+ * Tooltips are rebuilt every frame while hovering, and in bulk by search
+ * tabs and recipe viewers, so they all share these lines instead of
+ * formatting a new one each time.
+ */
+public final class FurnaceTooltips {
+
+    private record Lines(FurnaceTierSettings settings, Text[] speedLines) {
+    }
+
+    private static volatile Lines lines = build(FurnaceTierSettings.EMPTY);
+
+    private FurnaceTooltips() {
+    }
+
+    /**
+     * The gray "Speed: x% of vanilla" line for the tier, for the current
+     * settings. Shared; do not modify it.
+     */
+    public static Text getSpeedLine(FurnaceTier tier) {
+        Lines current = lines;
+        FurnaceTierSettings settings = FurnaceSpeedManager.getSettings();
+        if (current.settings() != settings) {
+            current = build(settings);
+            lines = current;
+        }
+        return current.speedLines()[tier.getId()];
+    }
+
+    private static Lines build(FurnaceTierSettings settings) {
+        Text[] speedLines = new Text[FurnaceTier.VALUES.length];
+        for (FurnaceTier tier : FurnaceTier.VALUES) {
+            double speedPercentage = settings.getCookStep(tier) * 100.0 / FurnaceSpeedManager.PROGRESS_SCALE;
+            speedLines[tier.getId()] = Text.translatable("tooltip.foxfurnace.speed", String.format(Locale.ROOT, "%.1f%%", speedPercentage))
+                    .formatted(Formatting.GRAY);
+        }
+        return new Lines(settings, speedLines);
+    }
+}
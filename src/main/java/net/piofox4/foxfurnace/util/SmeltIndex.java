@@ -0,0 +1,175 @@
+package net.piofox4.foxfurnace.util;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.AbstractCookingRecipe;
+import net.minecraft.recipe.BlastingRecipe;
+import net.minecraft.recipe.Ingredient;
+import net.minecraft.recipe.RecipeEntry;
+import net.minecraft.recipe.RecipeManager;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.recipe.SmeltingRecipe;
+import net.minecraft.recipe.SmokingRecipe;
+import net.minecraft.server.MinecraftServer;
+import net.piofox4.foxfurnace.FoxFurnace;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cooking recipes indexed by raw item id, one table per furnace recipe type.
+ * Rebuilt after every datapack reload, so a furnace finds its recipe and
+ * per-tier cook time with a single map lookup instead of testing every recipe
+ * of the type against its input.
+ * <p>
+ * Recipes the index cannot enumerate (custom recipe classes or ingredients
+ * that test components) are left out on their own. Lookups for the items
+ * they list return {@link #UNINDEXED} so callers fall back to the recipe
+ * manager, and so do misses in a type holding a custom recipe class, since
+ * it may match items it does not list.
+ */
+public final class SmeltIndex {
+
+    public static final Entry UNINDEXED = new Entry(null, new int[0]);
+
+    private static final List<RecipeType<? extends AbstractCookingRecipe>> INDEXED_TYPES =
+            List.of(RecipeType.SMELTING, RecipeType.BLASTING, RecipeType.SMOKING);
+
+    private static final SmeltIndex EMPTY = new SmeltIndex(Map.of(), FurnaceTierSettings.EMPTY);
+
+    /**
+     * Swapped whole, never modified, so a reload and a settings publish on
+     * different threads cannot lose each other's update.
+     */
+    private static final AtomicReference<SmeltIndex> CURRENT = new AtomicReference<>(EMPTY);
+
+    private final Map<RecipeType<?>, Int2ObjectMap<Entry>> tables;
+    /** Settings the tier cook times were computed from. */
+    private final FurnaceTierSettings settings;
+
+    private SmeltIndex(Map<RecipeType<?>, Int2ObjectMap<Entry>> tables, FurnaceTierSettings settings) {
+        this.tables = tables;
+        this.settings = settings;
+    }
+
+    /**
+     * One indexed recipe. {@code tierCookTimes} holds the cook time in ticks
+     * at each tier's current speed, recomputed whenever settings are published.
+     */
+    public record Entry(RecipeEntry<? extends AbstractCookingRecipe> recipe, int[] tierCookTimes) {
+
+        public int getTierCookTime(FurnaceTier tier) {
+            return tierCookTimes[tier.getId()];
+        }
+
+        private Entry withTierCookTimes(FurnaceTierSettings settings) {
+            if (this == UNINDEXED) return this;
+            return new Entry(recipe, computeTierCookTimes(recipe.value(), settings));
+        }
+    }
+
+    public static SmeltIndex get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns the recipe for the stack, {@code null} if there is none, or
+     * {@link #UNINDEXED} if the caller has to ask the recipe manager.
+     */
+    @Nullable
+    public Entry find(RecipeType<?> type, ItemStack stack) {
+        Int2ObjectMap<Entry> table = tables.get(type);
+        if (table == null) return UNINDEXED;
+        return table.get(Item.getRawId(stack.getItem()));
+    }
+
+    public static void rebuild(MinecraftServer server) {
+        rebuild(server.getRecipeManager());
+    }
+
+    public static void rebuild(RecipeManager recipeManager) {
+        FurnaceTierSettings settings = FurnaceSpeedManager.getSettings();
+        Map<RecipeType<?>, Int2ObjectMap<Entry>> tables = new IdentityHashMap<>();
+        int indexed = 0;
+        for (RecipeType<? extends AbstractCookingRecipe> type : INDEXED_TYPES) {
+            Int2ObjectMap<Entry> table = buildTable(recipeManager, settings, type);
+            tables.put(type, table);
+            indexed += table.size();
+        }
+        CURRENT.set(new SmeltIndex(tables, settings));
+        // Settings published while the tables were built went to the old index.
+        onSettingsPublished(FurnaceSpeedManager.getSettings());
+        FoxFurnace.LOGGER.debug("Indexed {} cooking inputs", indexed);
+    }
+
+    public static void clear() {
+        CURRENT.set(EMPTY);
+    }
+
+    /**
+     * Recomputes the per-tier cook times for new settings, without touching
+     * the recipes themselves. An index already on these or newer settings is
+     * kept.
+     */
+    static void onSettingsPublished(FurnaceTierSettings settings) {
+        CURRENT.updateAndGet(index -> index.tables.isEmpty() || index.settings.getVersion() >= settings.getVersion()
+                ? index : index.withSettings(settings));
+    }
+
+    private SmeltIndex withSettings(FurnaceTierSettings settings) {
+        Map<RecipeType<?>, Int2ObjectMap<Entry>> tables = new IdentityHashMap<>();
+        this.tables.forEach((type, table) -> {
+            Int2ObjectOpenHashMap<Entry> updated = new Int2ObjectOpenHashMap<>(table.size());
+            updated.defaultReturnValue(table.defaultReturnValue());
+            Map<Entry, Entry> shared = new IdentityHashMap<>();
+            for (Int2ObjectMap.Entry<Entry> item : table.int2ObjectEntrySet()) {
+                updated.put(item.getIntKey(), shared.computeIfAbsent(item.getValue(), entry -> entry.withTierCookTimes(settings)));
+            }
+            tables.put(type, updated);
+        });
+        return new SmeltIndex(tables, settings);
+    }
+
+    /**
+     * Same order as RecipeManager#getFirstMatch: the first recipe listing an
+     * item wins, and an unindexable one shadows later recipes for its items.
+     */
+    private static Int2ObjectMap<Entry> buildTable(RecipeManager recipeManager, FurnaceTierSettings settings,
+                                                   RecipeType<? extends AbstractCookingRecipe> type) {
+        Int2ObjectOpenHashMap<Entry> table = new Int2ObjectOpenHashMap<>();
+        for (RecipeEntry<? extends AbstractCookingRecipe> recipe : recipeManager.listAllOfType(type)) {
+            AbstractCookingRecipe cooking = recipe.value();
+            Class<?> recipeClass = cooking.getClass();
+            boolean customClass = recipeClass != SmeltingRecipe.class && recipeClass != BlastingRecipe.class && recipeClass != SmokingRecipe.class;
+            if (customClass) {
+                table.defaultReturnValue(UNINDEXED);
+            }
+
+            Entry entry = UNINDEXED;
+            if (!customClass && !cooking.getIngredients().get(0).requiresTesting()) {
+                entry = new Entry(recipe, computeTierCookTimes(cooking, settings));
+            }
+            for (Ingredient ingredient : cooking.getIngredients()) {
+                for (ItemStack stack : ingredient.getMatchingStacks()) {
+                    table.putIfAbsent(Item.getRawId(stack.getItem()), entry);
+                }
+            }
+        }
+        table.trim();
+        return table;
+    }
+
+    private static int[] computeTierCookTimes(AbstractCookingRecipe recipe, FurnaceTierSettings settings) {
+        int cookTime = Math.max(1, recipe.getCookingTime());
+        int[] tierCookTimes = new int[FurnaceTier.VALUES.length];
+        for (FurnaceTier tier : FurnaceTier.VALUES) {
+            tierCookTimes[tier.getId()] = FurnaceSpeedManager.getAdjustedCookTime(cookTime, settings.getCookStep(tier));
+        }
+        return tierCookTimes;
+    }
+}